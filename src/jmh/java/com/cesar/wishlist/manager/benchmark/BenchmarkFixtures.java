@@ -0,0 +1,28 @@
+package com.cesar.wishlist.manager.benchmark;
+
+import com.cesar.wishlist.manager.domain.entity.Wishlist;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+final class BenchmarkFixtures {
+
+    static final int MAX_PRODUCTS = 20;
+
+    static final String CUSTOMER_ID = "benchmark-customer";
+
+    private BenchmarkFixtures() {
+    }
+
+    static List<String> products(int count) {
+        return IntStream.range(0, count).mapToObj(i -> "product-" + (100_000 + i)).toList();
+    }
+
+    static Wishlist fullWishlist() {
+        return wishlist(MAX_PRODUCTS);
+    }
+
+    static Wishlist wishlist(int productCount) {
+        return new Wishlist(CUSTOMER_ID, products(productCount));
+    }
+}
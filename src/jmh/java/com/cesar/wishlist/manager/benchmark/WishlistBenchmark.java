@@ -0,0 +1,65 @@
+package com.cesar.wishlist.manager.benchmark;
+
+import com.cesar.wishlist.manager.domain.entity.Wishlist;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity operations on a full wishlist: building it from a request and membership checks, at the product limit and
+ * past the linear scan.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WishlistBenchmark {
+
+    @Param({"20", "1000"})
+    private int productCount;
+
+    private List<String> products;
+
+    private Wishlist wishlist;
+
+    private String present;
+
+    private String absent;
+
+    @Setup
+    public void setup() {
+        products = BenchmarkFixtures.products(productCount);
+        wishlist = BenchmarkFixtures.wishlist(productCount);
+        // Fresh instances, so equals cannot short-circuit on identity.
+        present = new String(products.get(productCount - 1));
+        absent = "product-999999";
+    }
+
+    @Benchmark
+    public Wishlist addProducts() {
+        return new Wishlist(BenchmarkFixtures.CUSTOMER_ID, products);
+    }
+
+    @Benchmark
+    public boolean containsPresent() {
+        return wishlist.contains(present);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return wishlist.contains(absent);
+    }
+}
@@ -0,0 +1,88 @@
+package com.cesar.wishlist.manager.benchmark;
+
+import com.cesar.wishlist.manager.adapter.in.rest.advice.ApiErrorTemplate;
+import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.response.ApiErrorResponse;
+import com.cesar.wishlist.manager.domain.exception.WishlistNotFoundException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * The 404/422 path: throwing a domain exception from {@code depth} frames down, as the service does under the
+ * controller, filters and servlet container, and turning it into a serialized error response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WishlistErrorBenchmark {
+
+    private static final String CUSTOMER_ID = "customer-404";
+
+    private static final String PATH = "/v1/wishlists/products";
+
+    @Param({"32", "128"})
+    public int depth;
+
+    private ObjectWriter writer;
+
+    @Setup
+    public void setup() {
+        writer = new ObjectMapper().findAndRegisterModules().writerFor(ApiErrorResponse.class);
+    }
+
+    /** Baseline: an exception that captures its stack trace, as the domain exceptions used to. */
+    @Benchmark
+    public RuntimeException throwWithStackTrace() {
+        return catchFrom(depth, customerId -> new RuntimeException("Wishlist not found for customer ID: " + customerId));
+    }
+
+    @Benchmark
+    public RuntimeException throwStackless() {
+        return catchFrom(depth, WishlistNotFoundException::new);
+    }
+
+    @Benchmark
+    public byte[] templateResponse() throws Exception {
+        return writer.writeValueAsBytes(ApiErrorTemplate.NOT_FOUND
+                .respond("Wishlist not found for customer ID: " + CUSTOMER_ID, PATH)
+                .getBody());
+    }
+
+    @Benchmark
+    public byte[] notFound() throws Exception {
+        var ex = catchFrom(depth, WishlistNotFoundException::new);
+        return writer.writeValueAsBytes(ApiErrorTemplate.NOT_FOUND.respond(ex.getMessage(), PATH).getBody());
+    }
+
+    private static RuntimeException catchFrom(int depth, Function<String, RuntimeException> exception) {
+        try {
+            throwAt(depth, exception);
+            throw new IllegalStateException("unreachable");
+        } catch (RuntimeException ex) {
+            return ex;
+        }
+    }
+
+    private static void throwAt(int depth, Function<String, RuntimeException> exception) {
+        if (depth == 0) {
+            throw exception.apply(CUSTOMER_ID);
+        }
+        throwAt(depth - 1, exception);
+    }
+}
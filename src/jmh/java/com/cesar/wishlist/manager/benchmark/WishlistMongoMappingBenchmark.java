@@ -0,0 +1,72 @@
+package com.cesar.wishlist.manager.benchmark;
+
+import com.cesar.wishlist.manager.domain.entity.Wishlist;
+import com.cesar.wishlist.manager.infra.ProductSetConverters;
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spring Data's mapping between {@link Wishlist} and its BSON document, configured like the application's converter,
+ * for a wishlist at the product limit and one large enough to need the sorted index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WishlistMongoMappingBenchmark {
+
+    @Param({"20", "5000"})
+    private int productCount;
+
+    private MappingMongoConverter converter;
+
+    private Wishlist wishlist;
+
+    private Document document;
+
+    @Setup
+    public void setup() {
+        var conversions = new MongoCustomConversions(ProductSetConverters.converters());
+        var mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+
+        wishlist = BenchmarkFixtures.wishlist(productCount);
+        document = new Document();
+        converter.write(wishlist, document);
+    }
+
+    @Benchmark
+    public Wishlist read() {
+        return converter.read(Wishlist.class, document);
+    }
+
+    @Benchmark
+    public Document write() {
+        var target = new Document();
+        converter.write(wishlist, target);
+        return target;
+    }
+}
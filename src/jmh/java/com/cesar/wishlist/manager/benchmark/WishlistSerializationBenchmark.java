@@ -0,0 +1,61 @@
+package com.cesar.wishlist.manager.benchmark;
+
+import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.response.WishlistResponseDto;
+import com.cesar.wishlist.manager.application.config.JacksonConfig;
+import com.cesar.wishlist.manager.domain.entity.Wishlist;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The GET response path: mapping the entity to its DTO and writing it as JSON.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WishlistSerializationBenchmark {
+
+    private Wishlist wishlist;
+
+    private WishlistResponseDto response;
+
+    private ObjectWriter writer;
+
+    @Setup
+    public void setup() {
+        wishlist = BenchmarkFixtures.fullWishlist();
+        response = WishlistResponseDto.fromWishlist(wishlist);
+        writer = new ObjectMapper()
+                .registerModule(new JacksonConfig().productSetModule())
+                .writerFor(WishlistResponseDto.class);
+    }
+
+    @Benchmark
+    public WishlistResponseDto fromWishlist() {
+        return WishlistResponseDto.fromWishlist(wishlist);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws Exception {
+        return writer.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerialize() throws Exception {
+        return writer.writeValueAsBytes(WishlistResponseDto.fromWishlist(wishlist));
+    }
+}
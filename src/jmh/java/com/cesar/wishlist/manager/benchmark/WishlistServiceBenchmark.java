@@ -0,0 +1,90 @@
+package com.cesar.wishlist.manager.benchmark;
+
+import com.cesar.wishlist.manager.application.config.WishlistProperties;
+import com.cesar.wishlist.manager.application.service.WishlistMetrics;
+import com.cesar.wishlist.manager.application.service.WishlistOperationLog;
+import com.cesar.wishlist.manager.application.service.WishlistReadBatcher;
+import com.cesar.wishlist.manager.application.service.WishlistReadCollapser;
+import com.cesar.wishlist.manager.application.service.WishlistServiceImpl;
+import com.cesar.wishlist.manager.application.service.WishlistWriteCoalescer;
+import com.cesar.wishlist.manager.domain.entity.Wishlist;
+import com.cesar.wishlist.manager.infra.WishlistCache;
+import com.cesar.wishlist.manager.infra.WishlistMongoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Service overhead around the repository: request filtering and size checks, write wrappers and cache lookups.
+ * The repository is an in-memory stub, so the numbers exclude Mongo round trips.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WishlistServiceBenchmark {
+
+    private WishlistServiceImpl service;
+
+    private List<String> requestedProducts;
+
+    @Setup
+    public void setup() {
+        var properties = new WishlistProperties();
+        properties.setMaxProducts(BenchmarkFixtures.MAX_PRODUCTS);
+        var meterRegistry = new SimpleMeterRegistry();
+        var wishlist = BenchmarkFixtures.fullWishlist();
+
+        service = new WishlistServiceImpl(stubRepository(wishlist), new WishlistCache(properties, meterRegistry), properties,
+                new WishlistWriteCoalescer(properties, meterRegistry),
+                new WishlistReadBatcher(properties, meterRegistry), new WishlistReadCollapser(properties, meterRegistry),
+                new WishlistMetrics(meterRegistry), new WishlistOperationLog(properties));
+
+        // Half of the request repeats products, as retried or multi-device requests do.
+        var products = BenchmarkFixtures.products(BenchmarkFixtures.MAX_PRODUCTS / 2);
+        requestedProducts = Stream.concat(products.stream(), products.stream()).toList();
+    }
+
+    @Benchmark
+    public Wishlist addProducts() {
+        return service.addProducts(BenchmarkFixtures.CUSTOMER_ID, requestedProducts);
+    }
+
+    @Benchmark
+    public Wishlist getAllProductsCached() {
+        return service.getAllProductsByCustomer(BenchmarkFixtures.CUSTOMER_ID);
+    }
+
+    @Benchmark
+    public Map<String, Boolean> hasProductsCached() {
+        return service.hasProducts(BenchmarkFixtures.CUSTOMER_ID, requestedProducts);
+    }
+
+    private static WishlistMongoRepository stubRepository(Wishlist wishlist) {
+        return (WishlistMongoRepository) Proxy.newProxyInstance(WishlistMongoRepository.class.getClassLoader(),
+                new Class<?>[]{WishlistMongoRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "addProducts", "removeProducts", "findById" -> Optional.of(wishlist);
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "StubWishlistMongoRepository";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
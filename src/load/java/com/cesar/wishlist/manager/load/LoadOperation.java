@@ -0,0 +1,49 @@
+package com.cesar.wishlist.manager.load;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+
+/**
+ * The four {@code /v1/wishlists/products} endpoints driven by the load test.
+ */
+enum LoadOperation {
+
+    ADD {
+        @Override
+        HttpRequest request(URI baseUri, String customerId, String productId) {
+            return builder(baseUri.resolve("products"), customerId)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"products\":[\"" + productId + "\"]}"))
+                    .build();
+        }
+    },
+    REMOVE {
+        @Override
+        HttpRequest request(URI baseUri, String customerId, String productId) {
+            return builder(baseUri.resolve("products/" + productId), customerId).DELETE().build();
+        }
+    },
+    EXISTS {
+        @Override
+        HttpRequest request(URI baseUri, String customerId, String productId) {
+            return builder(baseUri.resolve("products/" + productId + "/exists"), customerId).GET().build();
+        }
+    },
+    GET {
+        @Override
+        HttpRequest request(URI baseUri, String customerId, String productId) {
+            return builder(baseUri.resolve("products"), customerId).GET().build();
+        }
+    };
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    abstract HttpRequest request(URI baseUri, String customerId, String productId);
+
+    private static HttpRequest.Builder builder(URI uri, String customerId) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(REQUEST_TIMEOUT)
+                .header("customerId", customerId);
+    }
+}
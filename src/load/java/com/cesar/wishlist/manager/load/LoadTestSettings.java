@@ -0,0 +1,42 @@
+package com.cesar.wishlist.manager.load;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Load test knobs bound from the {@code load.*} properties (see {@code application-load.yml}); any of them can be
+ * overridden on the command line, e.g. {@code -Dload.duration=2m -Dload.concurrency=256}.
+ *
+ * @param warmup         how long to drive traffic before recording latencies
+ * @param duration       how long to record latencies
+ * @param concurrency    number of virtual-thread workers issuing requests
+ * @param targetRate     total requests per second across all workers; {@code 0} runs closed-loop
+ * @param customers      number of distinct customers the keys are drawn from
+ * @param products       number of distinct product IDs
+ * @param seededProducts products imported into each customer's wishlist before the run
+ * @param keySkew        Zipf exponent used to pick customers; {@code 0} is uniform
+ * @param mix            relative weight of each operation
+ * @param slo            pass/fail thresholds
+ */
+record LoadTestSettings(Duration warmup,
+                        Duration duration,
+                        int concurrency,
+                        int targetRate,
+                        int customers,
+                        int products,
+                        int seededProducts,
+                        double keySkew,
+                        Map<LoadOperation, Integer> mix,
+                        Slo slo) {
+
+    /**
+     * @param minThroughput minimum successful-or-expected responses per second over the whole mix
+     * @param maxErrorRate  maximum fraction of requests failing with 5xx, unexpected statuses or I/O errors
+     * @param latency       per-operation latency percentiles
+     */
+    record Slo(double minThroughput, double maxErrorRate, Map<LoadOperation, LatencySlo> latency) {
+    }
+
+    record LatencySlo(Duration p50, Duration p99) {
+    }
+}
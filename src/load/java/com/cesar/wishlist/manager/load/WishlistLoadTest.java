@@ -0,0 +1,317 @@
+package com.cesar.wishlist.manager.load;
+
+import com.cesar.wishlist.manager.adapter.in.rest.v1.controller.WishlistV1Api;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.random.RandomGenerator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * End-to-end load test: boots the application on a random port against the embedded Mongo, seeds wishlists through
+ * the import endpoint and drives a weighted add/remove/exists/get mix with Zipf-skewed customers from virtual-thread
+ * workers. Latencies are recorded in HdrHistograms, printed as a percentile table, written to
+ * {@code target/load-test/*.hgrm} and checked against the configured SLOs.
+ * <p>
+ * With {@code load.target-rate} set, each worker paces its requests and latency is measured from the intended send
+ * time, so stalls are not hidden by coordinated omission.
+ * <p>
+ * The application serves requests on virtual threads here and on platform threads in
+ * {@link WishlistPlatformThreadsLoadTest}; each run reports under {@code target/load-test/<threads>/}.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"test", "load"})
+class WishlistLoadTest {
+
+    private static final Path REPORT_DIR = Path.of("target", "load-test");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private Environment environment;
+
+    private LoadTestSettings settings;
+
+    private String requestThreads;
+
+    private URI baseUri;
+
+    private HttpClient client;
+
+    private ZipfSampler customerSampler;
+
+    private LoadOperation[] operations;
+
+    private int[] cumulativeWeights;
+
+    @BeforeEach
+    void setUp() {
+        settings = Binder.get(environment).bind("load", LoadTestSettings.class)
+                .orElseThrow(() -> new IllegalStateException("Missing load.* settings"));
+        requestThreads = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)
+                ? "virtual" : "platform";
+        baseUri = URI.create("http://localhost:" + port + "/v1/wishlists/");
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        customerSampler = new ZipfSampler(settings.customers(), settings.keySkew());
+
+        operations = settings.mix().keySet().toArray(LoadOperation[]::new);
+        cumulativeWeights = new int[operations.length];
+        var total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += settings.mix().get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+    }
+
+    @Test
+    @DisplayName("Should meet the configured latency and throughput SLOs under the configured mix")
+    void shouldMeetConfiguredSlos() throws Exception {
+        givenSeededWishlists();
+
+        run(settings.warmup(), new Results());
+        var results = run(settings.duration(), new Results());
+
+        results.report(requestThreads);
+        thenSlosAreMet(results);
+    }
+
+    private void givenSeededWishlists() throws Exception {
+        var random = RandomGenerator.of("L64X128MixRandom");
+        var ndjson = new StringBuilder();
+        for (int customer = 0; customer < settings.customers(); customer++) {
+            var products = new ArrayList<String>();
+            for (int i = 0; i < settings.seededProducts(); i++) {
+                products.add("\"" + productId(random) + "\"");
+            }
+            ndjson.append("{\"customerId\":\"").append(customerId(customer))
+                    .append("\",\"products\":").append(products).append("}\n");
+        }
+
+        var response = client.send(HttpRequest.newBuilder(baseUri.resolve("import"))
+                        .header("Content-Type", WishlistV1Api.NDJSON_VALUE)
+                        .POST(HttpRequest.BodyPublishers.ofString(ndjson.toString()))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+        assertEquals(200, response.statusCode(), "Seeding wishlists failed");
+    }
+
+    private Results run(Duration duration, Results results) throws Exception {
+        var start = System.nanoTime();
+        var deadline = start + duration.toNanos();
+        var workers = new ArrayList<Future<?>>(settings.concurrency());
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < settings.concurrency(); i++) {
+                workers.add(executor.submit(() -> drive(deadline, results)));
+            }
+            for (var worker : workers) {
+                worker.get();
+            }
+        }
+        results.elapsedNanos = System.nanoTime() - start;
+        return results;
+    }
+
+    private Void drive(long deadline, Results results) {
+        var random = ThreadLocalRandom.current();
+        var intervalNanos = settings.targetRate() > 0 ? 1_000_000_000L * settings.concurrency() / settings.targetRate() : 0;
+        var nextStart = System.nanoTime() + random.nextLong(Math.max(1, intervalNanos));
+
+        while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+            long start;
+            if (intervalNanos > 0) {
+                for (long wait = nextStart - System.nanoTime(); wait > 0; wait = nextStart - System.nanoTime()) {
+                    LockSupport.parkNanos(wait);
+                }
+                start = nextStart;
+                nextStart += intervalNanos;
+            } else {
+                start = System.nanoTime();
+            }
+
+            var operation = nextOperation(random);
+            var request = operation.request(baseUri, customerId(customerSampler.sample(random)), productId(random));
+            results.record(operation, send(request), System.nanoTime() - start);
+        }
+        return null;
+    }
+
+    private int send(HttpRequest request) {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            return -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+
+    private LoadOperation nextOperation(RandomGenerator random) {
+        var pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        var index = 0;
+        while (pick >= cumulativeWeights[index]) {
+            index++;
+        }
+        return operations[index];
+    }
+
+    private String customerId(int rank) {
+        return "load-customer-%06d".formatted(rank);
+    }
+
+    private String productId(RandomGenerator random) {
+        return "load-product-%05d".formatted(random.nextInt(settings.products()));
+    }
+
+    private void thenSlosAreMet(Results results) {
+        var slo = settings.slo();
+        var violations = new ArrayList<String>();
+
+        if (results.throughput() < slo.minThroughput()) {
+            violations.add("throughput %.1f req/s < %.1f req/s".formatted(results.throughput(), slo.minThroughput()));
+        }
+        if (results.errorRate() > slo.maxErrorRate()) {
+            violations.add("error rate %.4f > %.4f".formatted(results.errorRate(), slo.maxErrorRate()));
+        }
+        slo.latency().forEach((operation, latency) -> {
+            var histogram = results.histograms.get(operation);
+            checkPercentile(violations, operation, histogram, 50.0, latency.p50());
+            checkPercentile(violations, operation, histogram, 99.0, latency.p99());
+        });
+
+        assertTrue(violations.isEmpty(), () -> "SLO violations:\n  " + String.join("\n  ", violations));
+    }
+
+    private void checkPercentile(List<String> violations, LoadOperation operation, Histogram histogram,
+                                 double percentile, Duration limit) {
+        if (limit == null || histogram == null || histogram.getTotalCount() == 0) {
+            return;
+        }
+        var actualMicros = histogram.getValueAtPercentile(percentile);
+        if (actualMicros > limit.toNanos() / 1_000) {
+            violations.add("%s p%s %.2f ms > %d ms".formatted(operation, percentile,
+                    actualMicros / 1_000.0, limit.toMillis()));
+        }
+    }
+
+    private static final class Results {
+
+        private final Map<LoadOperation, Recorder> recorders = new EnumMap<>(LoadOperation.class);
+
+        private final Map<LoadOperation, Histogram> histograms = new EnumMap<>(LoadOperation.class);
+
+        private final Map<LoadOperation, LongAdder> expected = new EnumMap<>(LoadOperation.class);
+
+        private final Map<LoadOperation, LongAdder> errors = new EnumMap<>(LoadOperation.class);
+
+        private long elapsedNanos;
+
+        Results() {
+            for (var operation : LoadOperation.values()) {
+                recorders.put(operation, new Recorder(3));
+                expected.put(operation, new LongAdder());
+                errors.put(operation, new LongAdder());
+            }
+        }
+
+        /**
+         * 2xx responses are successes; 404 (no wishlist) and 422 (wishlist full) are expected business outcomes under
+         * a random mix and count towards throughput; anything else is an error.
+         */
+        void record(LoadOperation operation, int status, long latencyNanos) {
+            recorders.get(operation).recordValue(Math.max(1, latencyNanos / 1_000));
+            if (status == 404 || status == 422) {
+                expected.get(operation).increment();
+            } else if (status / 100 != 2) {
+                errors.get(operation).increment();
+            }
+        }
+
+        long total() {
+            return histograms().values().stream().mapToLong(Histogram::getTotalCount).sum();
+        }
+
+        double throughput() {
+            return (total() - errorCount()) / (elapsedNanos / 1e9);
+        }
+
+        double errorRate() {
+            var total = total();
+            return total == 0 ? 0 : (double) errorCount() / total;
+        }
+
+        private long errorCount() {
+            return errors.values().stream().mapToLong(LongAdder::sum).sum();
+        }
+
+        private Map<LoadOperation, Histogram> histograms() {
+            if (histograms.isEmpty()) {
+                recorders.forEach((operation, recorder) -> histograms.put(operation, recorder.getIntervalHistogram()));
+            }
+            return histograms;
+        }
+
+        void report(String requestThreads) throws IOException {
+            var reportDir = Files.createDirectories(REPORT_DIR.resolve(requestThreads));
+            var out = System.out;
+            out.printf("%n%s request threads%n%-8s %9s %9s %7s %9s %9s %9s %9s %9s%n", requestThreads,
+                    "op", "count", "expected", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+            for (var entry : histograms().entrySet()) {
+                var operation = entry.getKey();
+                var histogram = entry.getValue();
+                out.printf("%-8s %9d %9d %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n", operation, histogram.getTotalCount(),
+                        expected.get(operation).sum(), errors.get(operation).sum(),
+                        millis(histogram, 50.0), millis(histogram, 90.0), millis(histogram, 99.0),
+                        millis(histogram, 99.9), histogram.getMaxValue() / 1_000.0);
+
+                try (var file = new PrintStream(Files.newOutputStream(reportDir.resolve(operation.name().toLowerCase() + ".hgrm")))) {
+                    histogram.outputPercentileDistribution(file, 1_000.0);
+                }
+            }
+            out.printf("total %d requests in %.1f s: %.1f req/s, error rate %.4f%n%n",
+                    total(), elapsedNanos / 1e9, throughput(), errorRate());
+        }
+
+        private static double millis(Histogram histogram, double percentile) {
+            return histogram.getValueAtPercentile(percentile) / 1_000.0;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.cesar.wishlist.manager.load;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Same load as {@link WishlistLoadTest} with the application serving requests on platform threads, so both runs'
+ * reports can be compared side by side.
+ */
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+class WishlistPlatformThreadsLoadTest extends WishlistLoadTest {
+}
@@ -0,0 +1,30 @@
+package com.cesar.wishlist.manager.load;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Draws ranks in {@code [0, size)} following a Zipf distribution, so a few hot customers receive most of the
+ * traffic the way real wishlists do. Uses a precomputed CDF and a binary search per sample.
+ */
+final class ZipfSampler {
+
+    private final double[] cdf;
+
+    ZipfSampler(int size, double exponent) {
+        cdf = new double[size];
+        var sum = 0.0;
+        for (int rank = 0; rank < size; rank++) {
+            sum += 1.0 / Math.pow(rank + 1, exponent);
+            cdf[rank] = sum;
+        }
+        for (int rank = 0; rank < size; rank++) {
+            cdf[rank] /= sum;
+        }
+    }
+
+    int sample(RandomGenerator random) {
+        var index = Arrays.binarySearch(cdf, random.nextDouble());
+        return Math.min(index >= 0 ? index : -index - 1, cdf.length - 1);
+    }
+}
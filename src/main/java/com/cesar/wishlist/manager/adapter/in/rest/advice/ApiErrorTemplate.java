@@ -0,0 +1,26 @@
+package com.cesar.wishlist.manager.adapter.in.rest.advice;
+
+import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.response.ApiErrorResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Instant;
+
+/**
+ * The fixed part of each error response, built once so handlers only fill in the message and path per request.
+ */
+public record ApiErrorTemplate(HttpStatus status, String error) {
+
+    public static final ApiErrorTemplate NOT_FOUND = new ApiErrorTemplate(HttpStatus.NOT_FOUND, "Wishlist Not Found");
+    public static final ApiErrorTemplate MAX_SIZE_EXCEEDED =
+            new ApiErrorTemplate(HttpStatus.UNPROCESSABLE_ENTITY, "Wishlist Max Size Exceeded");
+    public static final ApiErrorTemplate VALIDATION_ERROR = new ApiErrorTemplate(HttpStatus.BAD_REQUEST, "Validation Error");
+    public static final ApiErrorTemplate MISSING_HEADER = new ApiErrorTemplate(HttpStatus.BAD_REQUEST, "Missing Request Header");
+    public static final ApiErrorTemplate INTERNAL_ERROR =
+            new ApiErrorTemplate(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error");
+
+    public ResponseEntity<ApiErrorResponse> respond(String message, String path) {
+        return ResponseEntity.status(status)
+                .body(new ApiErrorResponse(Instant.now(), status.value(), error, message, path));
+    }
+}
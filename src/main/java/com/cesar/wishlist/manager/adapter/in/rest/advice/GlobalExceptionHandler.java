@@ -4,14 +4,17 @@ import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.response.ApiErrorRespon
 import com.cesar.wishlist.manager.domain.exception.WishlistMaxSizeException;
 import com.cesar.wishlist.manager.domain.exception.WishlistNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
-import org.springframework.http.HttpStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingRequestHeaderException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+@Slf4j
 @RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class GlobalExceptionHandler {
 
     @ExceptionHandler(WishlistNotFoundException.class)
@@ -19,13 +22,7 @@ public class GlobalExceptionHandler {
             WishlistNotFoundException ex,
             HttpServletRequest request) {
 
-        return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                .body(ApiErrorResponse.of(
-                        HttpStatus.NOT_FOUND.value(),
-                        "Wishlist Not Found",
-                        ex.getMessage(),
-                        request.getRequestURI()
-                ));
+        return ApiErrorTemplate.NOT_FOUND.respond(ex.getMessage(), request.getRequestURI());
     }
 
     @ExceptionHandler(WishlistMaxSizeException.class)
@@ -33,13 +30,7 @@ public class GlobalExceptionHandler {
             WishlistMaxSizeException ex,
             HttpServletRequest request) {
 
-        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
-                .body(ApiErrorResponse.of(
-                        HttpStatus.UNPROCESSABLE_ENTITY.value(),
-                        "Wishlist Max Size Exceeded",
-                        ex.getMessage(),
-                        request.getRequestURI()
-                ));
+        return ApiErrorTemplate.MAX_SIZE_EXCEEDED.respond(ex.getMessage(), request.getRequestURI());
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -54,13 +45,7 @@ public class GlobalExceptionHandler {
                 .map(error -> error.getField() + ": " + error.getDefaultMessage())
                 .orElse("Invalild Params");
 
-        return ResponseEntity.badRequest()
-                .body(ApiErrorResponse.of(
-                        HttpStatus.BAD_REQUEST.value(),
-                        "Validation Error",
-                        defaultMessage,
-                        request.getRequestURI()
-                ));
+        return ApiErrorTemplate.VALIDATION_ERROR.respond(defaultMessage, request.getRequestURI());
     }
 
     @ExceptionHandler(MissingRequestHeaderException.class)
@@ -71,13 +56,7 @@ public class GlobalExceptionHandler {
         String headerName = ex.getHeaderName();
         String message = "Required request header '" + headerName + "' is missing";
 
-        return ResponseEntity.badRequest()
-                .body(ApiErrorResponse.of(
-                        HttpStatus.BAD_REQUEST.value(),
-                        "Missing Request Header",
-                        message,
-                        request.getRequestURI()
-                ));
+        return ApiErrorTemplate.MISSING_HEADER.respond(message, request.getRequestURI());
     }
 
     @ExceptionHandler(Exception.class)
@@ -85,12 +64,8 @@ public class GlobalExceptionHandler {
             Exception ex,
             HttpServletRequest request) {
 
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(ApiErrorResponse.of(
-                        HttpStatus.INTERNAL_SERVER_ERROR.value(),
-                        "Internal Server Error",
-                        ex.getMessage(),
-                        request.getRequestURI()
-                ));
+        log.error("Unhandled error on {} {}", request.getMethod(), request.getRequestURI(), ex);
+
+        return ApiErrorTemplate.INTERNAL_ERROR.respond(ex.getMessage(), request.getRequestURI());
     }
 }
\ No newline at end of file
@@ -0,0 +1,70 @@
+package com.cesar.wishlist.manager.adapter.in.rest.advice;
+
+import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.response.ApiErrorResponse;
+import com.cesar.wishlist.manager.domain.exception.WishlistMaxSizeException;
+import com.cesar.wishlist.manager.domain.exception.WishlistNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.MissingRequestValueException;
+
+@Slf4j
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveGlobalExceptionHandler {
+
+    @ExceptionHandler(WishlistNotFoundException.class)
+    public ResponseEntity<ApiErrorResponse> handleNotFound(
+            WishlistNotFoundException ex,
+            ServerHttpRequest request) {
+
+        return ApiErrorTemplate.NOT_FOUND.respond(ex.getMessage(), request.getPath().value());
+    }
+
+    @ExceptionHandler(WishlistMaxSizeException.class)
+    public ResponseEntity<ApiErrorResponse> handleLimitExceeded(
+            WishlistMaxSizeException ex,
+            ServerHttpRequest request) {
+
+        return ApiErrorTemplate.MAX_SIZE_EXCEEDED.respond(ex.getMessage(), request.getPath().value());
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ApiErrorResponse> handleValidationError(
+            WebExchangeBindException ex,
+            ServerHttpRequest request) {
+
+        String defaultMessage = ex.getBindingResult()
+                .getFieldErrors()
+                .stream()
+                .findFirst()
+                .map(error -> error.getField() + ": " + error.getDefaultMessage())
+                .orElse("Invalild Params");
+
+        return ApiErrorTemplate.VALIDATION_ERROR.respond(defaultMessage, request.getPath().value());
+    }
+
+    @ExceptionHandler(MissingRequestValueException.class)
+    public ResponseEntity<ApiErrorResponse> handleMissingHeader(
+            MissingRequestValueException ex,
+            ServerHttpRequest request) {
+
+        String message = "Required request " + ex.getLabel() + " '" + ex.getName() + "' is missing";
+
+        return ApiErrorTemplate.MISSING_HEADER.respond(message, request.getPath().value());
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ApiErrorResponse> handleGenericException(
+            Exception ex,
+            ServerHttpRequest request) {
+
+        log.error("Unhandled error on {} {}", request.getMethod(), request.getPath().value(), ex);
+
+        return ApiErrorTemplate.INTERNAL_ERROR.respond(ex.getMessage(), request.getPath().value());
+    }
+}
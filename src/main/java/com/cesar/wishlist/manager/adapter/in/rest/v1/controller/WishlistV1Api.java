@@ -1,7 +1,14 @@
 package com.cesar.wishlist.manager.adapter.in.rest.v1.controller;
 
 import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.request.WishlistAddProductsDto;
+import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.request.WishlistBatchRequestDto;
+import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.request.WishlistProductsCheckDto;
+import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.response.CustomerIdPageResponseDto;
+import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.response.WishlistBatchResponseDto;
+import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.response.WishlistImportResponseDto;
 import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.response.WishlistProductCheckResponseDto;
+import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.response.WishlistProductsCheckResponseDto;
+import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.response.WishlistRecentProductsResponseDto;
 import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.response.WishlistResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -10,6 +17,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,11 +27,20 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.time.LocalDateTime;
 
 @Tag(name = "Wishlist API v1", description = "Gerenciamento da wishlist do cliente")
 @RequestMapping("/v1/wishlists")
 public interface WishlistV1Api {
 
+    String NDJSON_VALUE = "application/x-ndjson";
+    String GZIP_VALUE = "application/gzip";
+
     @Operation(summary = "Adiciona produtos à wishlist de um cliente")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Produtos adicionados com sucesso"),
@@ -56,13 +74,79 @@ public interface WishlistV1Api {
             @RequestHeader String customerId,
             @Parameter(description = "ID do produto") @PathVariable String productId);
 
+    @Operation(summary = "Verifica se vários produtos estão na wishlist em uma única chamada")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Resultado da verificação por produto"),
+            @ApiResponse(responseCode = "404", description = "Wishlist não encontrada")
+    })
+    @PostMapping("/products/exists")
+    ResponseEntity<WishlistProductsCheckResponseDto> hasProducts(
+            @Parameter(in = ParameterIn.HEADER, description = "ID do cliente", required = true)
+            @RequestHeader String customerId,
+            @RequestBody @Valid WishlistProductsCheckDto products);
+
     @Operation(summary = "Retorna todos os produtos da wishlist de um cliente")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Produtos retornados com sucesso"),
+            @ApiResponse(responseCode = "200", description = "Produtos retornados com sucesso, com ETag e Last-Modified; nextOffset indica a próxima página"),
+            @ApiResponse(responseCode = "304", description = "Wishlist inalterada desde o ETag ou a data informados"),
             @ApiResponse(responseCode = "404", description = "Wishlist não encontrada")
     })
+    @Parameter(name = HttpHeaders.IF_NONE_MATCH, in = ParameterIn.HEADER, description = "ETag de uma resposta anterior")
     @GetMapping("/products")
     ResponseEntity<WishlistResponseDto> getAllProductsByCustomer(
             @Parameter(in = ParameterIn.HEADER, description = "ID do cliente", required = true)
-            @RequestHeader String customerId);
+            @RequestHeader String customerId,
+            @Parameter(description = "Posição do primeiro produto da página") @RequestParam(defaultValue = "0") int offset,
+            @Parameter(description = "Tamanho da página; sem ele e sem offset, todos os produtos são retornados")
+            @RequestParam(required = false) Integer limit,
+            WebRequest request);
+
+    @Operation(summary = "Retorna os produtos adicionados mais recentemente à wishlist, do mais novo ao mais antigo")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Produtos retornados com a data de inclusão e a prioridade"),
+            @ApiResponse(responseCode = "404", description = "Wishlist não encontrada")
+    })
+    @GetMapping("/products/recent")
+    ResponseEntity<WishlistRecentProductsResponseDto> getRecentProducts(
+            @Parameter(in = ParameterIn.HEADER, description = "ID do cliente", required = true)
+            @RequestHeader String customerId,
+            @Parameter(description = "Quantidade de produtos") @RequestParam(defaultValue = "10") int limit);
+
+    @Operation(summary = "Retorna as wishlists de vários clientes em uma única chamada")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Wishlists encontradas e clientes sem wishlist"),
+            @ApiResponse(responseCode = "400", description = "Lista de clientes inválida")
+    })
+    @PostMapping("/batch")
+    ResponseEntity<WishlistBatchResponseDto> getAllProductsByCustomers(
+            @RequestBody @Valid WishlistBatchRequestDto customers);
+
+    @Operation(summary = "Lista, de forma paginada, os clientes que têm um produto na wishlist")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Página de clientes retornada com sucesso")
+    })
+    @GetMapping("/products/{productId}/customers")
+    ResponseEntity<CustomerIdPageResponseDto> findCustomersByProduct(
+            @Parameter(description = "ID do produto") @PathVariable String productId,
+            @Parameter(description = "Cursor retornado pela página anterior") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamanho da página") @RequestParam(defaultValue = "100") int limit);
+
+    @Operation(summary = "Exporta todas as wishlists em NDJSON, opcionalmente compactado com gzip")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Exportação transmitida com sucesso")
+    })
+    @GetMapping(value = "/export", produces = {WishlistV1Api.NDJSON_VALUE, WishlistV1Api.GZIP_VALUE})
+    ResponseEntity<StreamingResponseBody> exportAll(
+            @Parameter(description = "Exporta apenas wishlists alteradas a partir desta data", example = "2025-01-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @Parameter(description = "Compacta a exportação com gzip") @RequestParam(defaultValue = "false") boolean gzip);
+
+    @Operation(summary = "Importa wishlists em massa a partir de um corpo NDJSON",
+            description = "Cada linha deve conter {\"customerId\": \"...\", \"products\": [\"...\"]}; "
+                    + "produtos são mesclados às wishlists existentes respeitando o limite máximo")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Relatório da importação com as falhas por linha")
+    })
+    @PostMapping(value = "/import", consumes = WishlistV1Api.NDJSON_VALUE)
+    ResponseEntity<WishlistImportResponseDto> importWishlists(InputStream ndjson);
 }
\ No newline at end of file
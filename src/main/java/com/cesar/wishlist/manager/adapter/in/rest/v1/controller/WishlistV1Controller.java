@@ -1,21 +1,54 @@
 package com.cesar.wishlist.manager.adapter.in.rest.v1.controller;
 
 import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.request.WishlistAddProductsDto;
+import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.request.WishlistBatchRequestDto;
+import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.request.WishlistProductsCheckDto;
+import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.response.CustomerIdPageResponseDto;
+import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.response.WishlistBatchResponseDto;
+import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.response.WishlistExportDto;
+import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.response.WishlistImportResponseDto;
 import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.response.WishlistProductCheckResponseDto;
+import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.response.WishlistProductsCheckResponseDto;
+import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.response.WishlistRecentProductsResponseDto;
 import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.response.WishlistResponseDto;
+import com.cesar.wishlist.manager.domain.model.WishlistVersion;
+import com.cesar.wishlist.manager.port.in.WishlistImportService;
 import com.cesar.wishlist.manager.port.in.WishlistService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/v1/wishlists")
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class WishlistV1Controller implements WishlistV1Api {
 
     private final WishlistService service;
 
+    private final WishlistImportService importService;
+
+    private final ObjectMapper objectMapper;
+
     public ResponseEntity<WishlistResponseDto> addProducts(String customerId, WishlistAddProductsDto products) {
 
         var wishlist = service.addProducts(customerId, products.products());
@@ -34,9 +67,87 @@ public class WishlistV1Controller implements WishlistV1Api {
         return ResponseEntity.ok(new WishlistProductCheckResponseDto(exists));
     }
 
-    public ResponseEntity<WishlistResponseDto> getAllProductsByCustomer(String customerId) {
+    public ResponseEntity<WishlistProductsCheckResponseDto> hasProducts(String customerId, WishlistProductsCheckDto products) {
+
+        var result = service.hasProducts(customerId, products.products());
+        return ResponseEntity.ok(new WishlistProductsCheckResponseDto(result));
+    }
+
+    public ResponseEntity<WishlistResponseDto> getAllProductsByCustomer(String customerId, int offset, Integer limit,
+                                                                        WebRequest request) {
+
+        if (WishlistValidators.isConditional(request::getHeader)) {
+            var current = service.findVersion(customerId);
+            if (current.isPresent() && request.checkNotModified(WishlistValidators.eTag(customerId, current.get()),
+                    WishlistValidators.lastModified(current.get()).map(Instant::toEpochMilli).orElse(-1L))) {
+                return WishlistValidators.withValidators(ResponseEntity.status(HttpStatus.NOT_MODIFIED), customerId,
+                        current.get()).build();
+            }
+        }
+
+        if (limit != null || offset > 0) {
+            var page = service.getProductPage(customerId, offset, Objects.requireNonNullElse(limit, Integer.MAX_VALUE));
+            return WishlistValidators.withValidators(ResponseEntity.ok(), customerId, page.version())
+                    .body(WishlistResponseDto.fromPage(page));
+        }
 
         var wishlist = service.getAllProductsByCustomer(customerId);
-        return ResponseEntity.ok(WishlistResponseDto.fromWishlist(wishlist));
+        return WishlistValidators.withValidators(ResponseEntity.ok(), customerId, WishlistVersion.of(wishlist))
+                .body(WishlistResponseDto.fromWishlist(wishlist));
+    }
+
+    public ResponseEntity<WishlistRecentProductsResponseDto> getRecentProducts(String customerId, int limit) {
+
+        var items = service.getRecentProducts(customerId, limit);
+        return ResponseEntity.ok(WishlistRecentProductsResponseDto.fromItems(items));
+    }
+
+    public ResponseEntity<WishlistBatchResponseDto> getAllProductsByCustomers(WishlistBatchRequestDto customers) {
+
+        var result = service.getAllProductsByCustomers(customers.customerIds());
+        return ResponseEntity.ok(WishlistBatchResponseDto.fromResult(result));
+    }
+
+    public ResponseEntity<CustomerIdPageResponseDto> findCustomersByProduct(String productId, String cursor, int limit) {
+
+        var page = service.findCustomersByProduct(productId, cursor, limit);
+        return ResponseEntity.ok(CustomerIdPageResponseDto.fromPage(page));
+    }
+
+    public ResponseEntity<StreamingResponseBody> exportAll(LocalDateTime since, boolean gzip) {
+
+        StreamingResponseBody body = outputStream -> {
+            var target = gzip ? new GZIPOutputStream(outputStream) : outputStream;
+            try (var wishlists = service.exportAll(since);
+                 var writer = objectMapper.writerFor(WishlistExportDto.class)
+                         .withRootValueSeparator("\n")
+                         .writeValues(target)) {
+                wishlists.map(WishlistExportDto::fromWishlist).forEach(writeTo(writer));
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(gzip ? GZIP_VALUE : NDJSON_VALUE))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(gzip ? "wishlists.ndjson.gz" : "wishlists.ndjson")
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    public ResponseEntity<WishlistImportResponseDto> importWishlists(InputStream ndjson) {
+
+        var report = importService.importWishlists(ndjson);
+        return ResponseEntity.ok(WishlistImportResponseDto.fromReport(report));
+    }
+
+    private static Consumer<WishlistExportDto> writeTo(SequenceWriter writer) {
+        return wishlist -> {
+            try {
+                writer.write(wishlist);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        };
     }
 }
@@ -0,0 +1,169 @@
+package com.cesar.wishlist.manager.adapter.in.rest.v1.controller;
+
+import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.request.WishlistAddProductsDto;
+import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.request.WishlistBatchRequestDto;
+import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.request.WishlistProductsCheckDto;
+import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.response.CustomerIdPageResponseDto;
+import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.response.WishlistBatchResponseDto;
+import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.response.WishlistExportDto;
+import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.response.WishlistImportResponseDto;
+import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.response.WishlistProductCheckResponseDto;
+import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.response.WishlistProductsCheckResponseDto;
+import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.response.WishlistRecentProductsResponseDto;
+import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.response.WishlistResponseDto;
+import com.cesar.wishlist.manager.domain.model.WishlistVersion;
+import com.cesar.wishlist.manager.port.in.ReactiveWishlistService;
+import com.cesar.wishlist.manager.port.in.WishlistImportService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/v1/wishlists")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class WishlistV1ReactiveController implements WishlistV1ReactiveApi {
+
+    private static final int IMPORT_DEMAND = 16;
+
+    private final DataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+
+    private final ReactiveWishlistService service;
+
+    private final WishlistImportService importService;
+
+    private final ObjectMapper objectMapper;
+
+    public Mono<ResponseEntity<WishlistResponseDto>> addProducts(String customerId, WishlistAddProductsDto products) {
+
+        return service.addProducts(customerId, products.products())
+                .map(wishlist -> ResponseEntity.ok(WishlistResponseDto.fromWishlist(wishlist)));
+    }
+
+    public Mono<ResponseEntity<WishlistResponseDto>> removeProduct(String customerId, String productId) {
+
+        return service.removeProduct(customerId, productId)
+                .map(wishlist -> ResponseEntity.ok(WishlistResponseDto.fromWishlist(wishlist)));
+    }
+
+    public Mono<ResponseEntity<WishlistProductCheckResponseDto>> hasProduct(String customerId, String productId) {
+
+        return service.hasProduct(customerId, productId)
+                .map(exists -> ResponseEntity.ok(new WishlistProductCheckResponseDto(exists)));
+    }
+
+    public Mono<ResponseEntity<WishlistProductsCheckResponseDto>> hasProducts(String customerId, WishlistProductsCheckDto products) {
+
+        return service.hasProducts(customerId, products.products())
+                .map(result -> ResponseEntity.ok(new WishlistProductsCheckResponseDto(result)));
+    }
+
+    public Mono<ResponseEntity<WishlistResponseDto>> getAllProductsByCustomer(String customerId, int offset, Integer limit,
+                                                                              ServerWebExchange exchange) {
+
+        var notModified = WishlistValidators.isConditional(exchange.getRequest().getHeaders()::getFirst)
+                ? service.findVersion(customerId).filter(current -> exchange.checkNotModified(
+                        WishlistValidators.eTag(customerId, current), WishlistValidators.lastModified(current).orElse(Instant.MIN)))
+                : Mono.<WishlistVersion>empty();
+
+        return notModified
+                .map(current -> WishlistValidators.withValidators(ResponseEntity.status(HttpStatus.NOT_MODIFIED),
+                        customerId, current).<WishlistResponseDto>build())
+                .switchIfEmpty(Mono.defer(() -> limit != null || offset > 0
+                        ? service.getProductPage(customerId, offset, Objects.requireNonNullElse(limit, Integer.MAX_VALUE))
+                                .map(page -> WishlistValidators.withValidators(ResponseEntity.ok(), customerId, page.version())
+                                        .body(WishlistResponseDto.fromPage(page)))
+                        : service.getAllProductsByCustomer(customerId)
+                                .map(wishlist -> WishlistValidators.withValidators(ResponseEntity.ok(), customerId,
+                                                WishlistVersion.of(wishlist))
+                                        .body(WishlistResponseDto.fromWishlist(wishlist)))));
+    }
+
+    public Mono<ResponseEntity<WishlistRecentProductsResponseDto>> getRecentProducts(String customerId, int limit) {
+
+        return service.getRecentProducts(customerId, limit)
+                .map(items -> ResponseEntity.ok(WishlistRecentProductsResponseDto.fromItems(items)));
+    }
+
+    public Mono<ResponseEntity<WishlistBatchResponseDto>> getAllProductsByCustomers(WishlistBatchRequestDto customers) {
+
+        return service.getAllProductsByCustomers(customers.customerIds())
+                .map(result -> ResponseEntity.ok(WishlistBatchResponseDto.fromResult(result)));
+    }
+
+    public Mono<ResponseEntity<CustomerIdPageResponseDto>> findCustomersByProduct(String productId, String cursor, int limit) {
+
+        return service.findCustomersByProduct(productId, cursor, limit)
+                .map(page -> ResponseEntity.ok(CustomerIdPageResponseDto.fromPage(page)));
+    }
+
+    public ResponseEntity<Flux<DataBuffer>> exportAll(LocalDateTime since, boolean gzip) {
+
+        var lines = service.exportAll(since)
+                .map(WishlistExportDto::fromWishlist)
+                .map(this::toNdjsonLine);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(gzip ? WishlistV1Api.GZIP_VALUE : WishlistV1Api.NDJSON_VALUE))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(gzip ? "wishlists.ndjson.gz" : "wishlists.ndjson")
+                        .build()
+                        .toString())
+                .body(gzip ? gzipped(lines) : lines.map(bufferFactory::wrap));
+    }
+
+    public Mono<ResponseEntity<WishlistImportResponseDto>> importWishlists(Flux<DataBuffer> ndjson) {
+
+        // The import pipeline batches blocking bulk writes, so it runs off the event loop reading the body as a stream.
+        return Mono.fromCallable(() -> importService.importWishlists(DataBufferUtils.subscriberInputStream(ndjson, IMPORT_DEMAND)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(report -> ResponseEntity.ok(WishlistImportResponseDto.fromReport(report)));
+    }
+
+    private Flux<DataBuffer> gzipped(Flux<byte[]> lines) {
+        return Flux.from(DataBufferUtils.outputStreamPublisher(outputStream -> {
+            try (var gzip = new GZIPOutputStream(outputStream)) {
+                for (var line : lines.toIterable()) {
+                    gzip.write(line);
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }, bufferFactory, task -> Schedulers.boundedElastic().schedule(task)));
+    }
+
+    private byte[] toNdjsonLine(WishlistExportDto wishlist) {
+        try {
+            var json = objectMapper.writeValueAsBytes(wishlist);
+            var line = new byte[json.length + 1];
+            System.arraycopy(json, 0, line, 0, json.length);
+            line[json.length] = '\n';
+            return line;
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.cesar.wishlist.manager.adapter.in.rest.v1.controller;
+
+import com.cesar.wishlist.manager.domain.model.WishlistVersion;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+/**
+ * HTTP validators for a wishlist: a strong ETag from the persisted version, which every write increments, and
+ * Last-Modified from its last update. The same URL serves every customer, selected by the {@code customerId}
+ * header, so the ETag also carries a digest of the customer ID and responses vary by that header; otherwise two
+ * customers at the same version would share validators and a cache could answer one with the other's list.
+ */
+final class WishlistValidators {
+
+    static final String CUSTOMER_ID_HEADER = "customerId";
+
+    private static final int CUSTOMER_DIGEST_BYTES = 8;
+
+    private WishlistValidators() {
+    }
+
+    static boolean isConditional(UnaryOperator<String> header) {
+        return header.apply(HttpHeaders.IF_NONE_MATCH) != null || header.apply(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
+    static String eTag(String customerId, WishlistVersion version) {
+        return version.version() == null ? null : "\"" + customerDigest(customerId) + "-" + version.version() + "\"";
+    }
+
+    static Optional<Instant> lastModified(WishlistVersion version) {
+        return Optional.ofNullable(version.lastModified())
+                .map(lastModified -> lastModified.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    static ResponseEntity.BodyBuilder withValidators(ResponseEntity.BodyBuilder response, String customerId,
+                                                     WishlistVersion version) {
+        Optional.ofNullable(eTag(customerId, version)).ifPresent(response::eTag);
+        lastModified(version).ifPresent(response::lastModified);
+        return response.varyBy(CUSTOMER_ID_HEADER);
+    }
+
+    private static String customerDigest(String customerId) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(customerId.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, CUSTOMER_DIGEST_BYTES);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is required by every Java platform", ex);
+        }
+    }
+}
@@ -1,10 +1,7 @@
 package com.cesar.wishlist.manager.adapter.in.rest.v1.dto.response;
 
-import lombok.Builder;
-
 import java.time.Instant;
 
-@Builder
 public record ApiErrorResponse(
         Instant timestamp,
         int status,
@@ -12,13 +9,4 @@ public record ApiErrorResponse(
         String message,
         String path
 ) {
-    public static ApiErrorResponse of(int status, String error, String message, String path) {
-        return ApiErrorResponse.builder()
-                .timestamp(Instant.now())
-                .status(status)
-                .error(error)
-                .message(message)
-                .path(path)
-                .build();
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,19 @@
+package com.cesar.wishlist.manager.adapter.in.rest.v1.dto.response;
+
+import com.cesar.wishlist.manager.domain.model.CustomerIdPage;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Builder
+public record CustomerIdPageResponseDto(List<String> customerIds, String nextCursor) {
+
+    public static CustomerIdPageResponseDto fromPage(CustomerIdPage page) {
+        return CustomerIdPageResponseDto.builder()
+                .customerIds(page.customerIds())
+                .nextCursor(page.nextCursor())
+                .build();
+    }
+}
@@ -0,0 +1,30 @@
+package com.cesar.wishlist.manager.adapter.in.rest.v1.dto.response;
+
+import com.cesar.wishlist.manager.domain.entity.Wishlist;
+import com.cesar.wishlist.manager.domain.model.WishlistBatchResult;
+import lombok.Builder;
+
+import java.util.Collection;
+import java.util.List;
+
+@Builder
+public record WishlistBatchResponseDto(List<CustomerWishlistDto> wishlists, List<String> missingCustomerIds) {
+
+    public static WishlistBatchResponseDto fromResult(WishlistBatchResult result) {
+        return WishlistBatchResponseDto.builder()
+                .wishlists(result.wishlists().stream().map(CustomerWishlistDto::fromWishlist).toList())
+                .missingCustomerIds(result.missingCustomerIds())
+                .build();
+    }
+
+    @Builder
+    public record CustomerWishlistDto(String customerId, Collection<String> products) {
+
+        public static CustomerWishlistDto fromWishlist(Wishlist wishlist) {
+            return CustomerWishlistDto.builder()
+                    .customerId(wishlist.getCustomerId())
+                    .products(wishlist.getProducts())
+                    .build();
+        }
+    }
+}
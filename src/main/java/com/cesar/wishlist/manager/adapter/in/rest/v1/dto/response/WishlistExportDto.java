@@ -0,0 +1,24 @@
+package com.cesar.wishlist.manager.adapter.in.rest.v1.dto.response;
+
+import com.cesar.wishlist.manager.domain.entity.Wishlist;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Builder
+public record WishlistExportDto(
+        String customerId,
+        Collection<String> products,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+    public static WishlistExportDto fromWishlist(Wishlist wishlist) {
+        return WishlistExportDto.builder()
+                .customerId(wishlist.getCustomerId())
+                .products(wishlist.getProducts())
+                .createdAt(wishlist.getCreatedAt())
+                .updatedAt(wishlist.getUpdatedAt())
+                .build();
+    }
+}
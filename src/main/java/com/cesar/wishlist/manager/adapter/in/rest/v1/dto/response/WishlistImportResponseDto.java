@@ -0,0 +1,27 @@
+package com.cesar.wishlist.manager.adapter.in.rest.v1.dto.response;
+
+import com.cesar.wishlist.manager.domain.model.WishlistImportReport;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record WishlistImportResponseDto(long received, long imported, long failed, List<FailureDto> failures) {
+
+    public static WishlistImportResponseDto fromReport(WishlistImportReport report) {
+        return WishlistImportResponseDto.builder()
+                .received(report.received())
+                .imported(report.imported())
+                .failed(report.failed())
+                .failures(report.failures().stream().map(FailureDto::fromFailure).toList())
+                .build();
+    }
+
+    @Builder
+    public record FailureDto(long line, String customerId, String reason) {
+
+        public static FailureDto fromFailure(WishlistImportReport.Failure failure) {
+            return new FailureDto(failure.line(), failure.customerId(), failure.reason());
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.cesar.wishlist.manager.adapter.in.rest.v1.dto.response;
+
+import lombok.Builder;
+
+import java.util.Map;
+
+@Builder
+public record WishlistProductsCheckResponseDto(Map<String, Boolean> products) {
+}
@@ -0,0 +1,31 @@
+package com.cesar.wishlist.manager.adapter.in.rest.v1.dto.response;
+
+import com.cesar.wishlist.manager.domain.model.WishlistItem;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Builder
+public record WishlistRecentProductsResponseDto(List<RecentProductDto> products) {
+
+    public static WishlistRecentProductsResponseDto fromItems(List<WishlistItem> items) {
+        return WishlistRecentProductsResponseDto.builder()
+                .products(items.stream().map(RecentProductDto::fromItem).toList())
+                .build();
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Builder
+    public record RecentProductDto(String productId, LocalDateTime addedAt, Integer priority) {
+
+        public static RecentProductDto fromItem(WishlistItem item) {
+            return RecentProductDto.builder()
+                    .productId(item.productId())
+                    .addedAt(item.addedAt())
+                    .priority(item.priority())
+                    .build();
+        }
+    }
+}
@@ -1,18 +1,26 @@
 package com.cesar.wishlist.manager.adapter.in.rest.v1.dto.response;
 
 import com.cesar.wishlist.manager.domain.entity.Wishlist;
+import com.cesar.wishlist.manager.domain.model.WishlistProductPage;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 
-import java.util.List;
+import java.util.Collection;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @Builder
-public record WishlistResponseDto(List<String> products) {
+public record WishlistResponseDto(Collection<String> products, Integer nextOffset) {
 
     public static WishlistResponseDto fromWishlist(Wishlist wishlist) {
         return WishlistResponseDto.builder()
-                .products(wishlist.getProducts().stream().toList())
+                .products(wishlist.getProducts())
+                .build();
+    }
+
+    public static WishlistResponseDto fromPage(WishlistProductPage page) {
+        return WishlistResponseDto.builder()
+                .products(page.products())
+                .nextOffset(page.nextOffset())
                 .build();
     }
 }
@@ -0,0 +1,40 @@
+package com.cesar.wishlist.manager.application.config;
+
+import com.cesar.wishlist.manager.domain.model.ProductSet;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Module productSetModule() {
+        return new SimpleModule("ProductSetModule").addSerializer(new ProductSetSerializer());
+    }
+
+    /**
+     * Writes the product IDs straight from the set's backing array, with no iterator or intermediate list.
+     */
+    static class ProductSetSerializer extends StdSerializer<ProductSet> {
+
+        ProductSetSerializer() {
+            super(ProductSet.class);
+        }
+
+        @Override
+        public void serialize(ProductSet products, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartArray(products, products.size());
+            for (int i = 0; i < products.size(); i++) {
+                gen.writeString(products.get(i));
+            }
+            gen.writeEndArray();
+        }
+    }
+}
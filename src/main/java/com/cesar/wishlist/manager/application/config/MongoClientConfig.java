@@ -0,0 +1,34 @@
+package com.cesar.wishlist.manager.application.config;
+
+import com.cesar.wishlist.manager.infra.ProductSetConverters;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class MongoClientConfig {
+
+    /**
+     * Sizes the driver connection pool from {@code wishlist.mongo-pool}. With virtual threads every request can
+     * reach the pool at once, so the pool bounds Mongo concurrency and a short wait time sheds load quickly
+     * instead of parking requests for the driver's two-minute default.
+     */
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoPoolCustomizer(WishlistProperties wishlistProperties) {
+        var pool = wishlistProperties.getMongoPool();
+        return builder -> builder.applyToConnectionPoolSettings(settings -> settings
+                .maxSize(pool.getMaxSize())
+                .minSize(pool.getMinSize())
+                .maxConnecting(pool.getMaxConnecting())
+                .maxWaitTime(pool.getMaxWaitTime().toMillis(), TimeUnit.MILLISECONDS)
+                .maxConnectionIdleTime(pool.getMaxConnectionIdleTime().toMillis(), TimeUnit.MILLISECONDS));
+    }
+
+    @Bean
+    public MongoCustomConversions mongoCustomConversions() {
+        return new MongoCustomConversions(ProductSetConverters.converters());
+    }
+}
@@ -0,0 +1,30 @@
+package com.cesar.wishlist.manager.application.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.embedded.netty.NettyRouteProvider;
+import org.springframework.boot.web.embedded.netty.NettyServerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ReactorResourceFactory;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class WebFluxConfig {
+
+    /**
+     * Serves the reactive profile from Reactor Netty event loops. The servlet starter stays on the classpath for the
+     * default mode, and Boot would otherwise pick Tomcat first and run WebFlux through its servlet adapter.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory(ObjectProvider<ReactorResourceFactory> resourceFactory,
+                                                                       ObjectProvider<NettyRouteProvider> routes,
+                                                                       ObjectProvider<NettyServerCustomizer> serverCustomizers) {
+        var factory = new NettyReactiveWebServerFactory();
+        resourceFactory.ifAvailable(factory::setResourceFactory);
+        routes.orderedStream().forEach(factory::addRouteProviders);
+        serverCustomizers.orderedStream().forEach(factory::addServerCustomizers);
+        return factory;
+    }
+}
@@ -0,0 +1,62 @@
+package com.cesar.wishlist.manager.application.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final WishlistProperties wishlistProperties;
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new StreamingTimeoutInterceptor(wishlistProperties.getExport().getTimeout()));
+    }
+
+    /**
+     * Gives handlers that stream their body, such as the NDJSON export, their own async timeout, so a long export is
+     * not cut off while every other async request keeps the application-wide default.
+     */
+    static class StreamingTimeoutInterceptor implements CallableProcessingInterceptor {
+
+        private final Duration timeout;
+
+        StreamingTimeoutInterceptor(Duration timeout) {
+            this.timeout = timeout;
+        }
+
+        @Override
+        public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+            // Runs after the default timeout is applied and before the async context starts.
+            if (request instanceof AsyncWebRequest asyncRequest && streamsBody(request)) {
+                asyncRequest.setTimeout(timeout.toMillis());
+            }
+        }
+
+        private static boolean streamsBody(NativeWebRequest request) {
+            if (!(request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                    instanceof HandlerMethod handler)) {
+                return false;
+            }
+            var returnType = ResolvableType.forMethodParameter(handler.getReturnType());
+            return StreamingResponseBody.class.isAssignableFrom(returnType.toClass())
+                    || StreamingResponseBody.class.isAssignableFrom(returnType.getGeneric(0).toClass());
+        }
+    }
+}
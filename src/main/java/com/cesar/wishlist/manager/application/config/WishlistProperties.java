@@ -3,8 +3,13 @@ package com.cesar.wishlist.manager.application.config;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.slf4j.event.Level;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
 @Component
 @ConfigurationProperties(prefix = "wishlist")
 @Getter
@@ -13,4 +18,146 @@ public class WishlistProperties {
 
     private int maxProducts;
 
+    private Cache cache = new Cache();
+
+    private Batch batch = new Batch();
+
+    private BulkImport bulkImport = new BulkImport();
+
+    private Export export = new Export();
+
+    private MongoPool mongoPool = new MongoPool();
+
+    private WriteCoalescing writeCoalescing = new WriteCoalescing();
+
+    private ReadBatching readBatching = new ReadBatching();
+
+    private ReadCollapsing readCollapsing = new ReadCollapsing();
+
+    private ItemsMigration itemsMigration = new ItemsMigration();
+
+    private Logging logging = new Logging();
+
+    @Getter
+    @Setter
+    public static class Cache {
+
+        private boolean enabled = true;
+
+        private long maximumSize = 10_000;
+
+        private Duration ttl = Duration.ofMinutes(5);
+
+        private ChangeStream changeStream = new ChangeStream();
+    }
+
+    @Getter
+    @Setter
+    public static class Batch {
+
+        private int chunkSize = 500;
+
+        private int maxPageSize = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class BulkImport {
+
+        private int batchSize = 1_000;
+
+        private int parallelism = 4;
+
+        private int maxReportedFailures = 1_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Export {
+
+        private Duration timeout = Duration.ofHours(1);
+    }
+
+    @Getter
+    @Setter
+    public static class MongoPool {
+
+        private int maxSize = 200;
+
+        private int minSize = 10;
+
+        private int maxConnecting = 4;
+
+        private Duration maxWaitTime = Duration.ofSeconds(2);
+
+        private Duration maxConnectionIdleTime = Duration.ofMinutes(5);
+    }
+
+    @Getter
+    @Setter
+    public static class WriteCoalescing {
+
+        private boolean enabled;
+
+        private Duration window = Duration.ofMillis(2);
+
+        private int maxBatchSize = 64;
+
+        private int stripes = 64;
+    }
+
+    @Getter
+    @Setter
+    public static class ReadBatching {
+
+        private boolean enabled;
+
+        private Duration window = Duration.ofNanos(300_000);
+
+        private int maxBatchSize = 128;
+    }
+
+    @Getter
+    @Setter
+    public static class ReadCollapsing {
+
+        private boolean enabled = true;
+    }
+
+    @Getter
+    @Setter
+    public static class ItemsMigration {
+
+        private boolean enabled;
+    }
+
+    @Getter
+    @Setter
+    public static class Logging {
+
+        private Level level = Level.INFO;
+
+        private double sampleRate = 0.01;
+
+        private Map<String, Double> sampleRates = new HashMap<>();
+
+        // Read by logback-spring.xml when it builds the async console appender.
+        private int queueSize = 8_192;
+    }
+
+    @Getter
+    @Setter
+    public static class ChangeStream {
+
+        private boolean enabled;
+
+        private String nodeId;
+
+        private String resumeTokenCollection = "wishlist_resume_tokens";
+
+        private Duration tokenFlushInterval = Duration.ofSeconds(1);
+
+        private Duration retryDelay = Duration.ofSeconds(5);
+    }
+
 }
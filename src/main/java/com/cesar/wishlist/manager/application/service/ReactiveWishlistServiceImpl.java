@@ -0,0 +1,210 @@
+package com.cesar.wishlist.manager.application.service;
+
+import com.cesar.wishlist.manager.application.config.WishlistProperties;
+import com.cesar.wishlist.manager.domain.entity.Wishlist;
+import com.cesar.wishlist.manager.domain.exception.WishlistMaxSizeException;
+import com.cesar.wishlist.manager.domain.exception.WishlistNotFoundException;
+import com.cesar.wishlist.manager.domain.model.CustomerIdPage;
+import com.cesar.wishlist.manager.domain.model.WishlistBatchResult;
+import com.cesar.wishlist.manager.domain.model.WishlistItem;
+import com.cesar.wishlist.manager.domain.model.WishlistProductPage;
+import com.cesar.wishlist.manager.domain.model.WishlistVersion;
+import com.cesar.wishlist.manager.infra.ReactiveWishlistMongoRepository;
+import com.cesar.wishlist.manager.infra.WishlistCache;
+import com.cesar.wishlist.manager.port.in.ReactiveWishlistService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveWishlistServiceImpl implements ReactiveWishlistService {
+
+    private final ReactiveWishlistMongoRepository repository;
+
+    private final WishlistCache cache;
+
+    private final WishlistProperties wishlistProperties;
+
+    private final WishlistMetrics metrics;
+
+    private final WishlistOperationLog operationLog;
+
+    @Override
+    public Mono<Wishlist> addProducts(String customerId, Collection<String> products) {
+
+        operationLog.sample("addProducts", customerId, "products", products.size());
+
+        return metrics.record("addProducts", Mono.fromCallable(() -> distinctProducts(products))
+                .flatMap(productsToInsert -> repository.addProducts(customerId, productsToInsert, wishlistProperties.getMaxProducts()))
+                .map(cache::put)
+                .map(metrics::recordSize)
+                .switchIfEmpty(Mono.error(() -> new WishlistMaxSizeException(wishlistProperties.getMaxProducts()))));
+    }
+
+    @Override
+    public Mono<Wishlist> removeProduct(String customerId, String productId) {
+
+        operationLog.sample("removeProduct", customerId, "productId", productId);
+
+        return metrics.record("removeProduct", repository.removeProduct(customerId, productId)
+                .map(cache::put)
+                .map(metrics::recordSize)
+                .switchIfEmpty(Mono.error(() -> new WishlistNotFoundException(customerId))));
+    }
+
+    @Override
+    public Mono<Boolean> hasProduct(String customerId, String productId) {
+
+        operationLog.sample("hasProduct", customerId, "productId", productId);
+
+        return metrics.record("hasProduct", Mono.justOrEmpty(cache.getIfPresent(customerId))
+                .map(wishlist -> wishlist.contains(productId))
+                .switchIfEmpty(Mono.defer(() -> repository.containsProduct(customerId, productId)))
+                .switchIfEmpty(Mono.error(() -> new WishlistNotFoundException(customerId))), WishlistMetrics::presence);
+    }
+
+    @Override
+    public Mono<Map<String, Boolean>> hasProducts(String customerId, Collection<String> productIds) {
+
+        operationLog.sample("hasProducts", customerId, "products", productIds.size());
+
+        return metrics.record("hasProducts", findWishlist(customerId)
+                .map(wishlist -> {
+                    var result = new LinkedHashMap<String, Boolean>();
+                    productIds.forEach(productId -> result.put(productId, wishlist.contains(productId)));
+                    return result;
+                }));
+    }
+
+    @Override
+    public Mono<Wishlist> getAllProductsByCustomer(String customerId) {
+
+        operationLog.sample("getAllProductsByCustomer", customerId);
+
+        return metrics.record("getAllProductsByCustomer", findWishlist(customerId).map(metrics::recordSize));
+    }
+
+    @Override
+    public Mono<WishlistVersion> findVersion(String customerId) {
+
+        operationLog.sample("findVersion", customerId);
+
+        return metrics.record("findVersion", Mono.justOrEmpty(cache.getIfPresent(customerId))
+                .map(WishlistVersion::of)
+                .switchIfEmpty(Mono.defer(() -> repository.findVersion(customerId))));
+    }
+
+    @Override
+    public Mono<WishlistProductPage> getProductPage(String customerId, int offset, int limit) {
+
+        operationLog.sample("getProductPage", customerId, "offset", offset);
+
+        var from = Math.max(0, offset);
+        var pageSize = Math.max(1, Math.min(limit, wishlistProperties.getBatch().getMaxPageSize()));
+
+        return metrics.record("getProductPage", Mono.justOrEmpty(cache.getIfPresent(customerId))
+                .map(wishlist -> WishlistProductPage.of(wishlist, from, pageSize))
+                .switchIfEmpty(Mono.defer(() -> repository.findProductPage(customerId, from, pageSize)))
+                .switchIfEmpty(Mono.error(() -> new WishlistNotFoundException(customerId))));
+    }
+
+    @Override
+    public Mono<List<WishlistItem>> getRecentProducts(String customerId, int limit) {
+
+        operationLog.sample("getRecentProducts", customerId, "limit", limit);
+
+        var count = Math.max(1, Math.min(limit, wishlistProperties.getBatch().getMaxPageSize()));
+
+        return metrics.record("getRecentProducts", Mono.justOrEmpty(cache.getIfPresent(customerId))
+                .map(wishlist -> wishlist.getProducts().recentItems(count))
+                .switchIfEmpty(Mono.defer(() -> repository.findRecentProducts(customerId, count)))
+                .switchIfEmpty(Mono.error(() -> new WishlistNotFoundException(customerId))));
+    }
+
+    @Override
+    public Mono<WishlistBatchResult> getAllProductsByCustomers(Collection<String> customerIds) {
+
+        operationLog.sample("getAllProductsByCustomers", "customers", customerIds.size());
+
+        var requested = new LinkedHashSet<>(customerIds);
+        var cached = new HashMap<String, Wishlist>();
+        var toFetch = new ArrayList<String>();
+        requested.forEach(customerId -> cache.getIfPresent(customerId)
+                .ifPresentOrElse(wishlist -> cached.put(customerId, wishlist), () -> toFetch.add(customerId)));
+
+        return metrics.record("getAllProductsByCustomers", Flux.fromIterable(toFetch)
+                .buffer(wishlistProperties.getBatch().getChunkSize())
+                .concatMap(repository::findAllById)
+                .collectMap(Wishlist::getCustomerId, wishlist -> wishlist, () -> cached)
+                .map(found -> {
+                    var wishlists = new ArrayList<Wishlist>(found.size());
+                    var missingCustomerIds = new ArrayList<String>();
+                    requested.forEach(customerId -> Optional.ofNullable(found.get(customerId))
+                            .ifPresentOrElse(wishlists::add, () -> missingCustomerIds.add(customerId)));
+                    return new WishlistBatchResult(wishlists, missingCustomerIds);
+                }));
+    }
+
+    @Override
+    public Mono<CustomerIdPage> findCustomersByProduct(String productId, String cursor, int limit) {
+
+        operationLog.sample("findCustomersByProduct", "productId", productId);
+
+        var pageSize = Math.max(1, Math.min(limit, wishlistProperties.getBatch().getMaxPageSize()));
+
+        return metrics.record("findCustomersByProduct", repository.findCustomerIdsByProduct(productId, cursor, pageSize + 1)
+                .collectList()
+                .map(customerIds -> {
+                    if (customerIds.size() > pageSize) {
+                        var page = customerIds.subList(0, pageSize);
+                        return new CustomerIdPage(page, page.get(pageSize - 1));
+                    }
+                    return new CustomerIdPage(customerIds, null);
+                }));
+    }
+
+    @Override
+    public Flux<Wishlist> exportAll(LocalDateTime since) {
+
+        log.info("Exporting wishlists changed since {}", since);
+
+        return repository.streamAll(since);
+    }
+
+    private Mono<Wishlist> findWishlist(String customerId) {
+        return Mono.justOrEmpty(cache.getIfPresent(customerId))
+                .switchIfEmpty(Mono.defer(() -> repository.findById(customerId).map(cache::putIfNewer)))
+                .switchIfEmpty(Mono.error(() -> new WishlistNotFoundException(customerId)));
+    }
+
+    private Set<String> distinctProducts(Collection<String> products) {
+        var distinct = new LinkedHashSet<String>();
+        products.forEach(product -> distinct.add(Objects.requireNonNull(product, "Product ID must not be null")));
+        ensureWishlistSizeRestriction(0, distinct.size());
+        return distinct;
+    }
+
+    private void ensureWishlistSizeRestriction(int currentSize, int productsToAdd) {
+        if (currentSize + productsToAdd > wishlistProperties.getMaxProducts()) {
+            throw new WishlistMaxSizeException(wishlistProperties.getMaxProducts());
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.cesar.wishlist.manager.application.service;
+
+import com.cesar.wishlist.manager.application.config.WishlistProperties;
+import com.cesar.wishlist.manager.domain.exception.WishlistMaxSizeException;
+import com.cesar.wishlist.manager.domain.model.WishlistImportRecord;
+import com.cesar.wishlist.manager.domain.model.WishlistImportReport;
+import com.cesar.wishlist.manager.infra.WishlistCache;
+import com.cesar.wishlist.manager.infra.WishlistMongoRepository;
+import com.cesar.wishlist.manager.port.in.WishlistImportService;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class WishlistImportServiceImpl implements WishlistImportService {
+
+    private static final String MALFORMED_LINE = "Malformed JSON line";
+
+    private final WishlistMongoRepository repository;
+
+    private final WishlistCache cache;
+
+    private final WishlistProperties wishlistProperties;
+
+    private final ObjectMapper objectMapper;
+
+    private final AsyncTaskExecutor taskExecutor;
+
+    @Override
+    public WishlistImportReport importWishlists(InputStream ndjson) {
+
+        var settings = wishlistProperties.getBulkImport();
+        var progress = new ImportProgress(settings.getMaxReportedFailures());
+        var inFlight = new Semaphore(settings.getParallelism());
+
+        log.info("Importing wishlists in batches of {} with parallelism {}", settings.getBatchSize(), settings.getParallelism());
+
+        try (var reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8))) {
+
+            var batch = new ArrayList<WishlistImportRecord>(settings.getBatchSize());
+            long lineNumber = 0;
+            for (var line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                progress.received.incrementAndGet();
+
+                var rec = parse(lineNumber, line);
+                var rejection = rec.isEmpty() ? Optional.of(MALFORMED_LINE) : validate(rec.get());
+                if (rejection.isPresent()) {
+                    var customerId = rec.map(WishlistImportRecord::customerId).orElse(null);
+                    progress.fail(new WishlistImportReport.Failure(lineNumber, customerId, rejection.get()));
+                    continue;
+                }
+
+                batch.add(withDistinctProducts(rec.get()));
+                if (batch.size() == settings.getBatchSize()) {
+                    submit(inFlight, List.copyOf(batch), progress);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                submit(inFlight, List.copyOf(batch), progress);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            // Every permit is back only once all submitted batches have finished.
+            inFlight.acquireUninterruptibly(settings.getParallelism());
+        }
+
+        var report = progress.toReport();
+        log.info("Imported {} of {} wishlist records, {} failed", report.imported(), report.received(), report.failed());
+        return report;
+    }
+
+    private void submit(Semaphore inFlight, List<WishlistImportRecord> batch, ImportProgress progress) {
+        // Blocks the reader while enough batches are in flight, so input is consumed no faster than Mongo absorbs it.
+        inFlight.acquireUninterruptibly();
+        try {
+            taskExecutor.execute(() -> {
+                try {
+                    importBatch(batch, progress);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RuntimeException ex) {
+            inFlight.release();
+            throw ex;
+        }
+    }
+
+    private void importBatch(List<WishlistImportRecord> batch, ImportProgress progress) {
+        var failures = writeBatch(batch);
+
+        for (int index = 0; index < batch.size(); index++) {
+            var rec = batch.get(index);
+            var reason = failures.get(index);
+            if (reason == null) {
+                progress.imported.incrementAndGet();
+            } else {
+                progress.fail(new WishlistImportReport.Failure(rec.line(), rec.customerId(), reason));
+            }
+            cache.invalidate(rec.customerId());
+        }
+    }
+
+    private Map<Integer, String> writeBatch(List<WishlistImportRecord> batch) {
+        try {
+            return repository.addProductsInBulk(batch, wishlistProperties.getMaxProducts());
+        } catch (RuntimeException ex) {
+            log.warn("Wishlist import batch of {} records failed", batch.size(), ex);
+            var failures = new HashMap<Integer, String>();
+            for (int index = 0; index < batch.size(); index++) {
+                failures.put(index, "Batch write failed: " + ex.getMessage());
+            }
+            return failures;
+        }
+    }
+
+    private Optional<WishlistImportRecord> parse(long lineNumber, String line) {
+        try {
+            var input = objectMapper.readValue(line, ImportLine.class);
+            return Optional.of(new WishlistImportRecord(lineNumber, input.customerId(), input.products()));
+        } catch (JsonProcessingException ex) {
+            return Optional.empty();
+        }
+    }
+
+    private Optional<String> validate(WishlistImportRecord rec) {
+        if (rec.customerId() == null || rec.customerId().isBlank()) {
+            return Optional.of("customerId is required");
+        }
+        if (rec.products() == null || rec.products().isEmpty()) {
+            return Optional.of("products must not be empty");
+        }
+        if (rec.products().stream().anyMatch(Objects::isNull)) {
+            return Optional.of("products must not contain null IDs");
+        }
+        if (new LinkedHashSet<>(rec.products()).size() > wishlistProperties.getMaxProducts()) {
+            return Optional.of(new WishlistMaxSizeException(wishlistProperties.getMaxProducts()).getMessage());
+        }
+        return Optional.empty();
+    }
+
+    private static WishlistImportRecord withDistinctProducts(WishlistImportRecord rec) {
+        return new WishlistImportRecord(rec.line(), rec.customerId(), List.copyOf(new LinkedHashSet<>(rec.products())));
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record ImportLine(String customerId, List<String> products) {
+    }
+
+    private static class ImportProgress {
+
+        private final AtomicLong received = new AtomicLong();
+        private final AtomicLong imported = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final List<WishlistImportReport.Failure> failures = new ArrayList<>();
+        private final int maxReportedFailures;
+
+        ImportProgress(int maxReportedFailures) {
+            this.maxReportedFailures = maxReportedFailures;
+        }
+
+        void fail(WishlistImportReport.Failure failure) {
+            failed.incrementAndGet();
+            synchronized (failures) {
+                if (failures.size() < maxReportedFailures) {
+                    failures.add(failure);
+                }
+            }
+        }
+
+        WishlistImportReport toReport() {
+            synchronized (failures) {
+                var sorted = failures.stream()
+                        .sorted(Comparator.comparingLong(WishlistImportReport.Failure::line))
+                        .toList();
+                return new WishlistImportReport(received.get(), imported.get(), failed.get(), sorted);
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.cesar.wishlist.manager.application.service;
+
+import com.cesar.wishlist.manager.domain.entity.Wishlist;
+import com.cesar.wishlist.manager.domain.exception.WishlistMaxSizeException;
+import com.cesar.wishlist.manager.domain.exception.WishlistNotFoundException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Times wishlist service operations tagged by operation and outcome ({@code success}, {@code found},
+ * {@code absent}, {@code not_found}, {@code max_size}, {@code error}), and records the size of the wishlists they
+ * return.
+ */
+@Component
+public class WishlistMetrics {
+
+    static final String OPERATIONS = "wishlist.operations";
+    static final String SIZE = "wishlist.size";
+
+    static final String SUCCESS = "success";
+    static final String FOUND = "found";
+    static final String ABSENT = "absent";
+    static final String NOT_FOUND = "not_found";
+    static final String MAX_SIZE = "max_size";
+    static final String ERROR = "error";
+    static final String CANCELLED = "cancelled";
+
+    private final MeterRegistry meterRegistry;
+
+    private final DistributionSummary wishlistSize;
+
+    // Timers by operation and outcome, registered on first use so recording a call is two map reads.
+    private final ConcurrentMap<String, ConcurrentMap<String, Timer>> timers = new ConcurrentHashMap<>();
+
+    public WishlistMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.wishlistSize = DistributionSummary.builder(SIZE)
+                .description("Number of products in the wishlists returned by the service")
+                .baseUnit("products")
+                .register(meterRegistry);
+    }
+
+    public <T> T record(String operation, Supplier<T> call) {
+        return record(operation, call, result -> SUCCESS);
+    }
+
+    public <T> T record(String operation, Supplier<T> call, Function<? super T, String> outcome) {
+        var sample = Timer.start(meterRegistry);
+        try {
+            var result = call.get();
+            stop(sample, operation, outcome.apply(result));
+            return result;
+        } catch (RuntimeException ex) {
+            stop(sample, operation, outcome(ex));
+            throw ex;
+        }
+    }
+
+    public <T> Mono<T> record(String operation, Mono<T> call) {
+        return record(operation, call, result -> SUCCESS);
+    }
+
+    public <T> Mono<T> record(String operation, Mono<T> call, Function<? super T, String> outcome) {
+        return Mono.defer(() -> {
+            var sample = Timer.start(meterRegistry);
+            return call
+                    .doOnSuccess(result -> stop(sample, operation, result == null ? SUCCESS : outcome.apply(result)))
+                    .doOnError(ex -> stop(sample, operation, outcome(ex)))
+                    .doOnCancel(() -> stop(sample, operation, CANCELLED));
+        });
+    }
+
+    public Wishlist recordSize(Wishlist wishlist) {
+        wishlistSize.record(wishlist.getProducts().size());
+        return wishlist;
+    }
+
+    static String outcome(Throwable ex) {
+        if (ex instanceof WishlistNotFoundException) {
+            return NOT_FOUND;
+        }
+        if (ex instanceof WishlistMaxSizeException) {
+            return MAX_SIZE;
+        }
+        return ERROR;
+    }
+
+    static String presence(boolean present) {
+        return present ? FOUND : ABSENT;
+    }
+
+    private void stop(Timer.Sample sample, String operation, String outcome) {
+        sample.stop(timer(operation, outcome));
+    }
+
+    private Timer timer(String operation, String outcome) {
+        var byOutcome = timers.get(operation);
+        if (byOutcome == null) {
+            byOutcome = timers.computeIfAbsent(operation, op -> new ConcurrentHashMap<>());
+        }
+        var timer = byOutcome.get(outcome);
+        if (timer == null) {
+            timer = byOutcome.computeIfAbsent(outcome, out -> Timer.builder(OPERATIONS)
+                    .description("Latency of wishlist service operations")
+                    .tag("operation", operation)
+                    .tag("outcome", out)
+                    .register(meterRegistry));
+        }
+        return timer;
+    }
+}
@@ -0,0 +1,65 @@
+package com.cesar.wishlist.manager.application.service;
+
+import com.cesar.wishlist.manager.application.config.WishlistProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sampled per-request log for the wishlist hot path, written to the {@code wishlist.operations} logger with the
+ * request details as key-value pairs so structured appenders emit them as fields. Only the configured fraction of
+ * calls per operation is logged; the rest cost a level check and a random draw.
+ */
+@Component
+public class WishlistOperationLog {
+
+    static final String LOGGER = "wishlist.operations";
+
+    private static final Logger log = LoggerFactory.getLogger(LOGGER);
+
+    private final WishlistProperties.Logging properties;
+
+    public WishlistOperationLog(WishlistProperties wishlistProperties) {
+        this.properties = wishlistProperties.getLogging();
+    }
+
+    public void sample(String operation, String customerId) {
+        if (sampled(operation)) {
+            event(operation)
+                    .addKeyValue("customerId", customerId)
+                    .log("{} customerId={}", operation, customerId);
+        }
+    }
+
+    public void sample(String operation, String key, Object value) {
+        if (sampled(operation)) {
+            event(operation)
+                    .addKeyValue(key, value)
+                    .log("{} {}={}", operation, key, value);
+        }
+    }
+
+    public void sample(String operation, String customerId, String key, Object value) {
+        if (sampled(operation)) {
+            event(operation)
+                    .addKeyValue("customerId", customerId)
+                    .addKeyValue(key, value)
+                    .log("{} customerId={} {}={}", operation, customerId, key, value);
+        }
+    }
+
+    boolean sampled(String operation) {
+        if (!log.isEnabledForLevel(properties.getLevel())) {
+            return false;
+        }
+        var rate = properties.getSampleRates().getOrDefault(operation, properties.getSampleRate());
+        return rate >= 1.0 || rate > 0 && ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    private LoggingEventBuilder event(String operation) {
+        return log.atLevel(properties.getLevel()).addKeyValue("operation", operation);
+    }
+}
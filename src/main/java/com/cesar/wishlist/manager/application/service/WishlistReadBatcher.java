@@ -0,0 +1,135 @@
+package com.cesar.wishlist.manager.application.service;
+
+import com.cesar.wishlist.manager.application.config.WishlistProperties;
+import com.cesar.wishlist.manager.domain.entity.Wishlist;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Collects reads of different customers' wishlists that arrive within {@code wishlist.read-batching.window} into a
+ * single {@code $in} lookup. The first caller of a window becomes its leader: it waits for the window to close or
+ * for {@code max-batch-size} customers to join, loads them all at once and completes every caller with its own
+ * wishlist. Callers asking for a customer already in the open batch share its result.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class WishlistReadBatcher {
+
+    private static final String BATCH_SIZE = "wishlist.read.batch.size";
+
+    private final WishlistProperties.ReadBatching properties;
+
+    // ReentrantLock rather than synchronized so waiting virtual threads do not pin their carrier.
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final DistributionSummary batchSize;
+
+    private Batch open;
+
+    public WishlistReadBatcher(WishlistProperties wishlistProperties, MeterRegistry meterRegistry) {
+        this.properties = wishlistProperties.getReadBatching();
+        this.batchSize = DistributionSummary.builder(BATCH_SIZE)
+                .description("Customers loaded per batched wishlist read")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Loads the wishlists of several customers in one query; customers without a wishlist are left out.
+     */
+    @FunctionalInterface
+    public interface BatchLoad {
+        Iterable<Wishlist> apply(Collection<String> customerIds);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public Optional<Wishlist> findById(String customerId, BatchLoad load) {
+        Batch batch;
+        CompletableFuture<Optional<Wishlist>> result;
+        boolean leader;
+
+        lock.lock();
+        try {
+            leader = open == null;
+            if (leader) {
+                open = new Batch();
+            }
+            batch = open;
+            result = batch.reads.computeIfAbsent(customerId, id -> new CompletableFuture<>());
+            if (batch.reads.size() >= properties.getMaxBatchSize()) {
+                open = null;
+                batch.full.countDown();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (leader) {
+            awaitWindow(batch);
+            lock.lock();
+            try {
+                if (open == batch) {
+                    open = null;
+                }
+            } finally {
+                lock.unlock();
+            }
+            apply(batch, load);
+        }
+        return await(result);
+    }
+
+    private void apply(Batch batch, BatchLoad load) {
+        // Closed above, so no caller adds to the batch any more.
+        var reads = batch.reads;
+        batchSize.record(reads.size());
+        try {
+            var found = new HashMap<String, Wishlist>();
+            load.apply(reads.keySet()).forEach(wishlist -> found.put(wishlist.getCustomerId(), wishlist));
+            reads.forEach((customerId, result) -> result.complete(Optional.ofNullable(found.get(customerId))));
+        } catch (RuntimeException ex) {
+            reads.values().forEach(result -> result.completeExceptionally(ex));
+        } finally {
+            reads.values().forEach(result -> result.completeExceptionally(new IllegalStateException("Batched read aborted")));
+        }
+    }
+
+    private void awaitWindow(Batch batch) {
+        try {
+            batch.full.await(properties.getWindow().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Optional<Wishlist> await(CompletableFuture<Optional<Wishlist>> result) {
+        try {
+            return result.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private static final class Batch {
+        private final Map<String, CompletableFuture<Optional<Wishlist>>> reads = new LinkedHashMap<>();
+        private final CountDownLatch full = new CountDownLatch(1);
+    }
+}
@@ -0,0 +1,73 @@
+package com.cesar.wishlist.manager.application.service;
+
+import com.cesar.wishlist.manager.application.config.WishlistProperties;
+import com.cesar.wishlist.manager.domain.entity.Wishlist;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Collapses concurrent loads of the same customer's wishlist into one: the first caller runs the load and callers
+ * arriving while it is in flight wait for and share its result, so a hot key costs one Mongo call at a time.
+ * Nothing is kept once the load completes; the next miss starts a new one.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class WishlistReadCollapser {
+
+    private static final String COLLAPSED = "wishlist.read.collapsed";
+
+    private final boolean enabled;
+
+    private final ConcurrentHashMap<String, CompletableFuture<Optional<Wishlist>>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter collapsed;
+
+    public WishlistReadCollapser(WishlistProperties wishlistProperties, MeterRegistry meterRegistry) {
+        this.enabled = wishlistProperties.getReadCollapsing().isEnabled();
+        this.collapsed = Counter.builder(COLLAPSED)
+                .description("Wishlist reads served by a load already in flight for the same customer")
+                .register(meterRegistry);
+    }
+
+    public Optional<Wishlist> load(String customerId, Function<String, Optional<Wishlist>> loader) {
+        if (!enabled) {
+            return loader.apply(customerId);
+        }
+
+        var flight = new CompletableFuture<Optional<Wishlist>>();
+        var running = inFlight.putIfAbsent(customerId, flight);
+        if (running != null) {
+            collapsed.increment();
+            return await(running);
+        }
+
+        try {
+            flight.complete(loader.apply(customerId));
+        } catch (RuntimeException ex) {
+            flight.completeExceptionally(ex);
+        } finally {
+            inFlight.remove(customerId, flight);
+            flight.completeExceptionally(new IllegalStateException("Wishlist load aborted"));
+        }
+        return await(flight);
+    }
+
+    private static Optional<Wishlist> await(CompletableFuture<Optional<Wishlist>> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
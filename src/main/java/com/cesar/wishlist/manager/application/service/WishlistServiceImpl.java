@@ -4,98 +4,235 @@ import com.cesar.wishlist.manager.application.config.WishlistProperties;
 import com.cesar.wishlist.manager.domain.entity.Wishlist;
 import com.cesar.wishlist.manager.domain.exception.WishlistMaxSizeException;
 import com.cesar.wishlist.manager.domain.exception.WishlistNotFoundException;
+import com.cesar.wishlist.manager.domain.model.CustomerIdPage;
+import com.cesar.wishlist.manager.domain.model.WishlistBatchResult;
+import com.cesar.wishlist.manager.domain.model.WishlistItem;
+import com.cesar.wishlist.manager.domain.model.WishlistProductPage;
+import com.cesar.wishlist.manager.domain.model.WishlistVersion;
+import com.cesar.wishlist.manager.infra.WishlistCache;
 import com.cesar.wishlist.manager.infra.WishlistMongoRepository;
 import com.cesar.wishlist.manager.port.in.WishlistService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.function.Function;
-import java.util.function.Supplier;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class WishlistServiceImpl implements WishlistService {
 
     private final WishlistMongoRepository repository;
 
+    private final WishlistCache cache;
+
     private final WishlistProperties wishlistProperties;
 
+    private final WishlistWriteCoalescer writeCoalescer;
+
+    private final WishlistReadBatcher readBatcher;
+
+    private final WishlistReadCollapser readCollapser;
+
+    private final WishlistMetrics metrics;
+
+    private final WishlistOperationLog operationLog;
+
     @Override
     public Wishlist addProducts(String customerId, Collection<String> products) {
 
-        log.info("Adding {} products to wishlist for customer: {}", products.size(), customerId);
+        operationLog.sample("addProducts", customerId, "products", products.size());
 
-        var wishlist = repository.findById(customerId)
-                .map(updateWishlist(customerId, products))
-                .orElseGet(createNewWishlist(customerId, products));
+        return metrics.record("addProducts", () -> {
+            var productsToInsert = distinctProducts(products);
+            ensureWishlistSizeRestriction(0, productsToInsert.size());
 
-        return repository.save(wishlist);
+            return writeCoalescer.addProducts(customerId, productsToInsert, this::addToWishlist)
+                    .map(cache::put)
+                    .map(metrics::recordSize)
+                    .orElseThrow(() -> new WishlistMaxSizeException(wishlistProperties.getMaxProducts()));
+        });
     }
 
     @Override
     public Wishlist removeProduct(String customerId, String productId) {
 
-        log.info("Removing product {} from wishlist for customer: {}", productId, customerId);
+        operationLog.sample("removeProduct", customerId, "productId", productId);
 
-        return repository.findById(customerId)
-                .map(removeProductFromWishlist(customerId, productId))
-                .orElseThrow(() -> new WishlistNotFoundException(customerId));
+        return metrics.record("removeProduct", () ->
+                writeCoalescer.removeProduct(customerId, productId, this::removeFromWishlist)
+                        .map(cache::put)
+                        .map(metrics::recordSize)
+                        .orElseThrow(() -> new WishlistNotFoundException(customerId)));
     }
 
     @Override
     public boolean hasProduct(String customerId, String productId) {
 
-        log.info("Checking if product {} is in wishlist for customer: {}", productId, customerId);
+        operationLog.sample("hasProduct", customerId, "productId", productId);
 
-        return repository.findById(customerId)
+        return metrics.record("hasProduct", () -> cache.getIfPresent(customerId)
                 .map(wishlist -> wishlist.contains(productId))
-                .orElseThrow(() -> new WishlistNotFoundException(customerId));
+                .or(() -> readBatcher.isEnabled()
+                        ? cache.get(customerId, this::findById).map(wishlist -> wishlist.contains(productId))
+                        : repository.containsProduct(customerId, productId))
+                .orElseThrow(() -> new WishlistNotFoundException(customerId)), WishlistMetrics::presence);
+    }
+
+    @Override
+    public Map<String, Boolean> hasProducts(String customerId, Collection<String> productIds) {
+
+        operationLog.sample("hasProducts", customerId, "products", productIds.size());
+
+        return metrics.record("hasProducts", () -> {
+            var wishlist = cache.get(customerId, this::findById)
+                    .orElseThrow(() -> new WishlistNotFoundException(customerId));
+
+            var result = new LinkedHashMap<String, Boolean>();
+            productIds.forEach(productId -> result.put(productId, wishlist.contains(productId)));
+            return result;
+        });
     }
 
     @Override
     public Wishlist getAllProductsByCustomer(String customerId) {
 
-        log.info("Retrieving all products for customer: {}", customerId);
+        operationLog.sample("getAllProductsByCustomer", customerId);
+
+        return metrics.record("getAllProductsByCustomer", () -> cache.get(customerId, this::findById)
+                .map(metrics::recordSize)
+                .orElseThrow(() -> new WishlistNotFoundException(customerId)));
+    }
+
+    @Override
+    public Optional<WishlistVersion> findVersion(String customerId) {
+
+        operationLog.sample("findVersion", customerId);
+
+        return metrics.record("findVersion", () -> cache.getIfPresent(customerId)
+                .map(WishlistVersion::of)
+                .or(() -> repository.findVersion(customerId)));
+    }
+
+    @Override
+    public WishlistProductPage getProductPage(String customerId, int offset, int limit) {
+
+        operationLog.sample("getProductPage", customerId, "offset", offset);
+
+        var from = Math.max(0, offset);
+        var pageSize = Math.max(1, Math.min(limit, wishlistProperties.getBatch().getMaxPageSize()));
 
-        return repository.findById(customerId)
-                .orElseThrow(() -> new WishlistNotFoundException(customerId));
+        return metrics.record("getProductPage", () -> cache.getIfPresent(customerId)
+                .map(wishlist -> WishlistProductPage.of(wishlist, from, pageSize))
+                .or(() -> repository.findProductPage(customerId, from, pageSize))
+                .orElseThrow(() -> new WishlistNotFoundException(customerId)));
     }
 
-    private Supplier<Wishlist> createNewWishlist(String customerId, Collection<String> products) {
-        return () -> {
-            log.info("Creating new wishlist for customer: {}", customerId);
-            ensureWishlistSizeRestriction(0, products.size());
-            return new Wishlist(customerId, products);
-        };
+    @Override
+    public List<WishlistItem> getRecentProducts(String customerId, int limit) {
+
+        operationLog.sample("getRecentProducts", customerId, "limit", limit);
+
+        var count = Math.max(1, Math.min(limit, wishlistProperties.getBatch().getMaxPageSize()));
+
+        return metrics.record("getRecentProducts", () -> cache.getIfPresent(customerId)
+                .map(wishlist -> wishlist.getProducts().recentItems(count))
+                .or(() -> repository.findRecentProducts(customerId, count))
+                .orElseThrow(() -> new WishlistNotFoundException(customerId)));
     }
 
-    private Function<Wishlist, Wishlist> updateWishlist(String customerId, Collection<String> products) {
-        return wishlist -> {
-            log.info("Updating Wishlist found for customer: {}", customerId);
+    @Override
+    public WishlistBatchResult getAllProductsByCustomers(Collection<String> customerIds) {
 
-            var productsToInsert = products.stream()
-                    .filter( product -> !wishlist.contains(product))
-                    .toList();
+        operationLog.sample("getAllProductsByCustomers", "customers", customerIds.size());
+
+        return metrics.record("getAllProductsByCustomers", () -> findWishlists(customerIds));
+    }
+
+    @Override
+    public CustomerIdPage findCustomersByProduct(String productId, String cursor, int limit) {
+
+        operationLog.sample("findCustomersByProduct", "productId", productId);
+
+        return metrics.record("findCustomersByProduct", () -> findCustomerIdPage(productId, cursor, limit));
+    }
+
+    @Override
+    public Stream<Wishlist> exportAll(LocalDateTime since) {
+
+        log.info("Exporting wishlists changed since {}", since);
+
+        return repository.streamAll(since);
+    }
+
+    private WishlistBatchResult findWishlists(Collection<String> customerIds) {
+        var requested = new LinkedHashSet<>(customerIds);
+        var found = new HashMap<String, Wishlist>();
+        var toFetch = new ArrayList<String>();
+        requested.forEach(customerId -> cache.getIfPresent(customerId)
+                .ifPresentOrElse(wishlist -> found.put(customerId, wishlist), () -> toFetch.add(customerId)));
+
+        var chunkSize = wishlistProperties.getBatch().getChunkSize();
+        for (int from = 0; from < toFetch.size(); from += chunkSize) {
+            repository.findAllById(toFetch.subList(from, Math.min(from + chunkSize, toFetch.size())))
+                    .forEach(wishlist -> found.put(wishlist.getCustomerId(), wishlist));
+        }
+
+        var wishlists = new ArrayList<Wishlist>(found.size());
+        var missingCustomerIds = new ArrayList<String>();
+        requested.forEach(customerId -> Optional.ofNullable(found.get(customerId))
+                .ifPresentOrElse(wishlists::add, () -> missingCustomerIds.add(customerId)));
+
+        return new WishlistBatchResult(wishlists, missingCustomerIds);
+    }
+
+    private Optional<Wishlist> findById(String customerId) {
+        return readCollapser.load(customerId, this::loadById);
+    }
+
+    private Optional<Wishlist> loadById(String customerId) {
+        return readBatcher.isEnabled()
+                ? readBatcher.findById(customerId, repository::findAllById)
+                : repository.findById(customerId);
+    }
+
+    private CustomerIdPage findCustomerIdPage(String productId, String cursor, int limit) {
+        var pageSize = Math.max(1, Math.min(limit, wishlistProperties.getBatch().getMaxPageSize()));
+        var customerIds = repository.findCustomerIdsByProduct(productId, cursor, pageSize + 1);
+
+        if (customerIds.size() > pageSize) {
+            var page = customerIds.subList(0, pageSize);
+            return new CustomerIdPage(page, page.get(pageSize - 1));
+        }
+        return new CustomerIdPage(customerIds, null);
+    }
+
+    private Optional<Wishlist> addToWishlist(String customerId, Set<String> products) {
+        return repository.addProducts(customerId, products, wishlistProperties.getMaxProducts());
+    }
 
-            ensureWishlistSizeRestriction(wishlist.getProducts().size(), productsToInsert.size());
-            wishlist.addProducts(productsToInsert);
-            return wishlist;
-        };
+    private Optional<Wishlist> removeFromWishlist(String customerId, Set<String> productIds) {
+        return repository.removeProducts(customerId, productIds);
     }
 
-    private Function<Wishlist, Wishlist> removeProductFromWishlist(String customerId, String productId) {
-        return wishlist -> {
-            if (wishlist.contains(productId)) {
-                wishlist.removeProduct(productId);
-                return repository.save(wishlist);
-            } else {
-                log.info("Product {} was not in wishlist for customer: {}", productId, customerId);
-                return wishlist;
-            }
-        };
+    private Set<String> distinctProducts(Collection<String> products) {
+        var distinct = new LinkedHashSet<String>();
+        products.forEach(product -> distinct.add(Objects.requireNonNull(product, "Product ID must not be null")));
+        return distinct;
     }
 
     private void ensureWishlistSizeRestriction(int currentSize, int productsToAdd) {
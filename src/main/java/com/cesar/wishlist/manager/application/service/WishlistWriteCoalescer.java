@@ -0,0 +1,185 @@
+package com.cesar.wishlist.manager.application.service;
+
+import com.cesar.wishlist.manager.application.config.WishlistProperties;
+import com.cesar.wishlist.manager.domain.entity.Wishlist;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Merges writes of the same kind that reach one customer's wishlist within {@code wishlist.write-coalescing.window}
+ * into a single atomic update. The first caller of a window becomes its leader: it waits for the window to close,
+ * applies the merged write and completes every caller with the resulting wishlist. Open windows live in lock-striped
+ * maps, so unrelated customers rarely contend.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class WishlistWriteCoalescer {
+
+    private static final String BATCH_SIZE = "wishlist.write.coalesced.batch.size";
+
+    private final WishlistProperties.WriteCoalescing properties;
+
+    private final Stripe[] stripes;
+
+    private final Map<Kind, DistributionSummary> batchSizes = new HashMap<>();
+
+    public WishlistWriteCoalescer(WishlistProperties wishlistProperties, MeterRegistry meterRegistry) {
+        this.properties = wishlistProperties.getWriteCoalescing();
+        this.stripes = new Stripe[Math.max(1, properties.getStripes())];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
+        for (var kind : Kind.values()) {
+            batchSizes.put(kind, DistributionSummary.builder(BATCH_SIZE)
+                    .tag("operation", kind.operation)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Applies a write of one caller's products; {@code write} must be the same operation for every caller.
+     */
+    @FunctionalInterface
+    public interface MergedWrite {
+        Optional<Wishlist> apply(String customerId, Set<String> products);
+    }
+
+    public Optional<Wishlist> addProducts(String customerId, Set<String> products, MergedWrite write) {
+        return submit(new Key(customerId, Kind.ADD), products, write);
+    }
+
+    public Optional<Wishlist> removeProduct(String customerId, String productId, MergedWrite write) {
+        return submit(new Key(customerId, Kind.REMOVE), Set.of(productId), write);
+    }
+
+    private Optional<Wishlist> submit(Key key, Set<String> products, MergedWrite write) {
+        if (!properties.isEnabled()) {
+            return write.apply(key.customerId(), products);
+        }
+
+        var pending = new PendingWrite(products, new CompletableFuture<>());
+        var stripe = stripes[Math.floorMod(key.hashCode(), stripes.length)];
+        Batch batch;
+        boolean leader;
+
+        stripe.lock.lock();
+        try {
+            batch = stripe.open.get(key);
+            leader = batch == null;
+            if (leader) {
+                batch = new Batch();
+                stripe.open.put(key, batch);
+            }
+            batch.writes.add(pending);
+            if (batch.writes.size() >= properties.getMaxBatchSize()) {
+                stripe.open.remove(key);
+                batch.full.countDown();
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+
+        if (leader) {
+            awaitWindow(batch);
+            stripe.lock.lock();
+            try {
+                stripe.open.remove(key, batch);
+            } finally {
+                stripe.lock.unlock();
+            }
+            apply(key, batch.writes, write);
+        }
+        return await(pending);
+    }
+
+    private void apply(Key key, List<PendingWrite> writes, MergedWrite write) {
+        batchSizes.get(key.kind()).record(writes.size());
+        try {
+            if (writes.size() > 1) {
+                var merged = new LinkedHashSet<String>();
+                writes.forEach(pending -> merged.addAll(pending.products()));
+                var result = write.apply(key.customerId(), merged);
+                if (result.isPresent()) {
+                    writes.forEach(pending -> pending.result().complete(result));
+                    return;
+                }
+            }
+            // A single write, or a merged one that was rejected (e.g. by the size guard although each write alone
+            // fits): every caller gets the outcome of its own write.
+            writes.forEach(pending -> applyAlone(key, pending, write));
+        } catch (RuntimeException ex) {
+            writes.forEach(pending -> pending.result().completeExceptionally(ex));
+        } finally {
+            writes.forEach(pending -> pending.result().completeExceptionally(new IllegalStateException("Coalesced write aborted")));
+        }
+    }
+
+    private static void applyAlone(Key key, PendingWrite pending, MergedWrite write) {
+        try {
+            pending.result().complete(write.apply(key.customerId(), pending.products()));
+        } catch (RuntimeException ex) {
+            pending.result().completeExceptionally(ex);
+        }
+    }
+
+    private void awaitWindow(Batch batch) {
+        try {
+            batch.full.await(properties.getWindow().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Optional<Wishlist> await(PendingWrite pending) {
+        try {
+            return pending.result().join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private enum Kind {
+        ADD("addProducts"), REMOVE("removeProduct");
+
+        private final String operation;
+
+        Kind(String operation) {
+            this.operation = operation;
+        }
+    }
+
+    private record Key(String customerId, Kind kind) {
+    }
+
+    private record PendingWrite(Set<String> products, CompletableFuture<Optional<Wishlist>> result) {
+    }
+
+    private static final class Batch {
+        private final List<PendingWrite> writes = new ArrayList<>();
+        private final CountDownLatch full = new CountDownLatch(1);
+    }
+
+    private static final class Stripe {
+        // ReentrantLock rather than synchronized so waiting virtual threads do not pin their carrier.
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<Key, Batch> open = new HashMap<>();
+    }
+}
@@ -1,43 +1,68 @@
 package com.cesar.wishlist.manager.domain.entity;
 
+import com.cesar.wishlist.manager.domain.model.ProductSet;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.PersistenceCreator;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 
 @Getter
 @Document(collection = "wishlists")
+@CompoundIndex(name = "products_customerId", def = "{'products.p': 1, '_id': 1}")
 public class Wishlist {
 
     @Setter
     @Id
     private String customerId;
 
-    private final Set<String> products = new HashSet<>();
+    private final ProductSet products;
 
     private final LocalDateTime createdAt;
 
+    @Indexed
+    private LocalDateTime updatedAt;
+
+    @Version
+    private Long version;
+
     public Wishlist(String customerId, Collection<String> products) {
         this.customerId = customerId;
-        this.addProducts(products);
+        this.products = new ProductSet();
         this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+        Optional.ofNullable(products)
+                .ifPresent(pdcts -> pdcts.forEach(productId -> addProduct(productId, createdAt)));
+    }
+
+    @PersistenceCreator
+    private Wishlist(String customerId, ProductSet products, LocalDateTime createdAt) {
+        this.customerId = customerId;
+        this.products = Objects.requireNonNullElseGet(products, ProductSet::new);
+        this.createdAt = createdAt;
     }
 
     public void addProducts(Collection<String> products) {
+        var now = LocalDateTime.now();
         Optional.ofNullable(products)
-                .ifPresent(pdcts -> pdcts.forEach(this::addProduct));
+                .ifPresent(pdcts -> pdcts.forEach(productId -> addProduct(productId, now)));
     }
 
     public void addProduct(String productId) {
+        addProduct(productId, LocalDateTime.now());
+    }
+
+    private void addProduct(String productId, LocalDateTime addedAt) {
         Objects.requireNonNull(productId, "Product ID must not be null");
-        this.products.add(productId);
+        this.products.add(productId, addedAt, null);
     }
 
     public void removeProduct(String productId) {
@@ -47,4 +72,8 @@ public class Wishlist {
     public boolean contains(String productId) {
         return this.products.contains(productId);
     }
+
+    public boolean isNewerThan(Wishlist other) {
+        return Optional.ofNullable(version).orElse(-1L) > Optional.ofNullable(other.version).orElse(-1L);
+    }
 }
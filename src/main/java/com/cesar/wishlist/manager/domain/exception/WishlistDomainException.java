@@ -0,0 +1,16 @@
+package com.cesar.wishlist.manager.domain.exception;
+
+/**
+ * Expected business outcome (unknown customer, full wishlist) reported as an exception. These are thrown on ordinary
+ * traffic and always translated into an HTTP response, so they skip stack trace capture and suppression tracking.
+ */
+public abstract class WishlistDomainException extends RuntimeException {
+
+    protected WishlistDomainException(String message) {
+        super(message, null, false, false);
+    }
+
+    protected WishlistDomainException(String message, Throwable cause) {
+        super(message, cause, false, false);
+    }
+}
@@ -1,6 +1,6 @@
 package com.cesar.wishlist.manager.domain.exception;
 
-public class WishlistMaxSizeException extends RuntimeException {
+public class WishlistMaxSizeException extends WishlistDomainException {
 
     public WishlistMaxSizeException(int maxSize) {
         super("Cannot add more than " + maxSize + " products to the wishlist.");
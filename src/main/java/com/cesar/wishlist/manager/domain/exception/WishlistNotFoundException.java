@@ -1,6 +1,6 @@
 package com.cesar.wishlist.manager.domain.exception;
 
-public class WishlistNotFoundException extends RuntimeException {
+public class WishlistNotFoundException extends WishlistDomainException {
 
     public WishlistNotFoundException(String customerId) {
         super("Wishlist not found for customer ID: " + customerId);
@@ -0,0 +1,6 @@
+package com.cesar.wishlist.manager.domain.model;
+
+import java.util.List;
+
+public record CustomerIdPage(List<String> customerIds, String nextCursor) {
+}
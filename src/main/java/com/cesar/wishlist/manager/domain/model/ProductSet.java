@@ -0,0 +1,306 @@
+package com.cesar.wishlist.manager.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.IntPredicate;
+
+/**
+ * Compact, insertion-ordered set of product IDs backed by a single array. Wishlists hold a few dozen products at
+ * most, where a linear scan beats hashing and avoids a node per entry; larger sets keep a sorted index for binary
+ * search, updated by every write. Each product's {@link WishlistItem} metadata lives in parallel arrays, the
+ * priorities one only once some product has a priority. Reads never write, so a set that is no longer modified can
+ * be shared across threads once safely published, e.g. through the cache.
+ */
+public final class ProductSet extends AbstractSet<String> {
+
+    private static final String[] EMPTY = {};
+    private static final LocalDateTime[] NO_DATES = {};
+    private static final int LINEAR_SCAN_LIMIT = 16;
+
+    private String[] items;
+
+    private LocalDateTime[] addedAt;
+
+    private Integer[] priorities;
+
+    private int size;
+
+    // Sorted copy of items[0, size), present exactly when size > LINEAR_SCAN_LIMIT.
+    private String[] sortedIndex;
+
+    public ProductSet() {
+        this.items = EMPTY;
+        this.addedAt = NO_DATES;
+    }
+
+    private ProductSet(int capacity) {
+        this.items = new String[capacity];
+        this.addedAt = new LocalDateTime[capacity];
+    }
+
+    /**
+     * Builds a set with the distinct products in encounter order, sized exactly when the products are already distinct.
+     */
+    public static ProductSet copyOf(Collection<String> products) {
+        var set = new ProductSet(products.size());
+        products.forEach(productId -> set.append(productId, null, null));
+        set.deduplicate();
+        return set;
+    }
+
+    /**
+     * Like {@link #copyOf}, keeping each item's metadata; a duplicated product keeps its first occurrence. Runs in
+     * O(n log n), so reading a large stored wishlist does not pay a lookup per item.
+     */
+    public static ProductSet copyOfItems(Collection<WishlistItem> items) {
+        var set = new ProductSet(items.size());
+        items.forEach(item -> set.append(item.productId(), item.addedAt(), item.priority()));
+        set.deduplicate();
+        return set;
+    }
+
+    public String get(int index) {
+        Objects.checkIndex(index, size);
+        return items[index];
+    }
+
+    public WishlistItem item(int index) {
+        Objects.checkIndex(index, size);
+        return new WishlistItem(items[index], addedAt[index], priorities == null ? null : priorities[index]);
+    }
+
+    /**
+     * The {@code limit} most recently added items, newest first.
+     */
+    public List<WishlistItem> recentItems(int limit) {
+        var recent = new ArrayList<WishlistItem>(Math.max(0, Math.min(size, limit)));
+        for (int i = size - 1; i >= 0 && recent.size() < limit; i--) {
+            recent.add(item(i));
+        }
+        return recent;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof String productId)) {
+            return false;
+        }
+        var sorted = sortedIndex;
+        return sorted != null ? Arrays.binarySearch(sorted, 0, size, productId) >= 0 : indexOf(productId, size) >= 0;
+    }
+
+    @Override
+    public boolean add(String productId) {
+        return add(productId, null, null);
+    }
+
+    /**
+     * Adds the product with its metadata; a product already in the set keeps the metadata it was added with.
+     */
+    public boolean add(String productId, LocalDateTime addedAt, Integer priority) {
+        Objects.requireNonNull(productId, "Product ID must not be null");
+        var sortedPosition = 0;
+        if (sortedIndex != null) {
+            var found = Arrays.binarySearch(sortedIndex, 0, size, productId);
+            if (found >= 0) {
+                return false;
+            }
+            sortedPosition = -found - 1;
+        } else if (indexOf(productId, size) >= 0) {
+            return false;
+        }
+
+        append(productId, addedAt, priority);
+        if (sortedIndex != null) {
+            System.arraycopy(sortedIndex, sortedPosition, sortedIndex, sortedPosition + 1, size - 1 - sortedPosition);
+            sortedIndex[sortedPosition] = productId;
+        } else if (size > LINEAR_SCAN_LIMIT) {
+            sortedIndex = sortedCopy();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!(o instanceof String productId)) {
+            return false;
+        }
+        var index = indexOf(productId, size);
+        if (index < 0) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    @Override
+    public void forEach(Consumer<? super String> action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(items[i]);
+        }
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(items, size, Object[].class);
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<>() {
+
+            private int next;
+
+            private int last = -1;
+
+            private int expectedSize = size;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public String next() {
+                if (expectedSize != size) {
+                    throw new ConcurrentModificationException();
+                }
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                last = next;
+                return items[next++];
+            }
+
+            @Override
+            public void remove() {
+                if (last < 0) {
+                    throw new IllegalStateException();
+                }
+                removeAt(last);
+                next = last;
+                last = -1;
+                expectedSize = size;
+            }
+        };
+    }
+
+    private int indexOf(String productId, int end) {
+        for (int i = 0; i < end; i++) {
+            if (items[i].equals(productId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void append(String productId, LocalDateTime addedAt, Integer priority) {
+        Objects.requireNonNull(productId, "Product ID must not be null");
+        if (size == items.length) {
+            var capacity = Math.max(4, size + (size >> 1));
+            items = Arrays.copyOf(items, capacity);
+            this.addedAt = Arrays.copyOf(this.addedAt, capacity);
+            if (priorities != null) {
+                priorities = Arrays.copyOf(priorities, capacity);
+            }
+            if (sortedIndex != null) {
+                sortedIndex = Arrays.copyOf(sortedIndex, capacity);
+            }
+        }
+        if (priority != null && priorities == null) {
+            priorities = new Integer[items.length];
+        }
+        items[size] = productId;
+        this.addedAt[size] = addedAt;
+        if (priorities != null) {
+            priorities[size] = priority;
+        }
+        size++;
+    }
+
+    /**
+     * Drops repeated products appended by the bulk factories, keeping the first occurrence, and builds the sorted
+     * index. Stored wishlists are already distinct, so the sort usually doubles as the duplicate check.
+     */
+    private void deduplicate() {
+        if (size <= LINEAR_SCAN_LIMIT) {
+            // Compacting in place keeps the same distinct values before each index, so a prefix scan still works.
+            compact(index -> indexOf(items[index], index) < 0);
+            return;
+        }
+
+        var sorted = sortedCopy();
+        for (int i = 1; i < size; i++) {
+            if (sorted[i].equals(sorted[i - 1])) {
+                var seen = new HashSet<String>(size * 2);
+                compact(index -> seen.add(items[index]));
+                sorted = sortedCopy();
+                break;
+            }
+        }
+        sortedIndex = size > LINEAR_SCAN_LIMIT ? sorted : null;
+    }
+
+    private void compact(IntPredicate keep) {
+        var kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (keep.test(i)) {
+                items[kept] = items[i];
+                addedAt[kept] = addedAt[i];
+                if (priorities != null) {
+                    priorities[kept] = priorities[i];
+                }
+                kept++;
+            }
+        }
+        Arrays.fill(items, kept, size, null);
+        Arrays.fill(addedAt, kept, size, null);
+        if (priorities != null) {
+            Arrays.fill(priorities, kept, size, null);
+        }
+        size = kept;
+    }
+
+    private String[] sortedCopy() {
+        var sorted = Arrays.copyOf(items, items.length);
+        Arrays.sort(sorted, 0, size);
+        return sorted;
+    }
+
+    private void removeAt(int index) {
+        if (sortedIndex != null) {
+            var sortedPosition = Arrays.binarySearch(sortedIndex, 0, size, items[index]);
+            System.arraycopy(sortedIndex, sortedPosition + 1, sortedIndex, sortedPosition, size - sortedPosition - 1);
+        }
+        var moved = size - index - 1;
+        System.arraycopy(items, index + 1, items, index, moved);
+        System.arraycopy(addedAt, index + 1, addedAt, index, moved);
+        if (priorities != null) {
+            System.arraycopy(priorities, index + 1, priorities, index, moved);
+            priorities[size - 1] = null;
+        }
+        addedAt[size - 1] = null;
+        items[--size] = null;
+        if (sortedIndex != null) {
+            sortedIndex[size] = null;
+            if (size <= LINEAR_SCAN_LIMIT) {
+                sortedIndex = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.cesar.wishlist.manager.domain.model;
+
+import com.cesar.wishlist.manager.domain.entity.Wishlist;
+
+import java.util.List;
+
+public record WishlistBatchResult(List<Wishlist> wishlists, List<String> missingCustomerIds) {
+}
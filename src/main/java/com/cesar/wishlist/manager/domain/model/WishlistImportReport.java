@@ -0,0 +1,9 @@
+package com.cesar.wishlist.manager.domain.model;
+
+import java.util.List;
+
+public record WishlistImportReport(long received, long imported, long failed, List<Failure> failures) {
+
+    public record Failure(long line, String customerId, String reason) {
+    }
+}
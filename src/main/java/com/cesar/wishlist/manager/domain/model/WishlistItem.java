@@ -0,0 +1,10 @@
+package com.cesar.wishlist.manager.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * A product in a wishlist with when it was added and its optional priority. {@code addedAt} is null for products
+ * stored before per-item timestamps existed.
+ */
+public record WishlistItem(String productId, LocalDateTime addedAt, Integer priority) {
+}
@@ -0,0 +1,24 @@
+package com.cesar.wishlist.manager.domain.model;
+
+import com.cesar.wishlist.manager.domain.entity.Wishlist;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A slice of a wishlist's products in insertion order, with the offset of the next slice ({@code null} on the last
+ * one) and the version of the wishlist it was read from.
+ */
+public record WishlistProductPage(List<String> products, Integer nextOffset, WishlistVersion version) {
+
+    public static WishlistProductPage of(Wishlist wishlist, int offset, int limit) {
+        var products = wishlist.getProducts();
+        var end = (int) Math.min(products.size(), (long) offset + limit);
+
+        var page = new ArrayList<String>(Math.max(0, end - offset));
+        for (int i = offset; i < end; i++) {
+            page.add(products.get(i));
+        }
+        return new WishlistProductPage(page, end < products.size() ? end : null, WishlistVersion.of(wishlist));
+    }
+}
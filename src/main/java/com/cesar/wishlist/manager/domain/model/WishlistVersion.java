@@ -0,0 +1,18 @@
+package com.cesar.wishlist.manager.domain.model;
+
+import com.cesar.wishlist.manager.domain.entity.Wishlist;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * The version and last change of a wishlist, enough to tell whether a client's copy is current without loading
+ * its products. {@code version} is null for wishlists written before versioning was introduced.
+ */
+public record WishlistVersion(Long version, LocalDateTime lastModified) {
+
+    public static WishlistVersion of(Wishlist wishlist) {
+        return new WishlistVersion(wishlist.getVersion(),
+                Objects.requireNonNullElse(wishlist.getUpdatedAt(), wishlist.getCreatedAt()));
+    }
+}
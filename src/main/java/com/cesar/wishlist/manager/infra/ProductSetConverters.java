@@ -0,0 +1,74 @@
+package com.cesar.wishlist.manager.infra;
+
+import com.cesar.wishlist.manager.domain.model.ProductSet;
+import com.cesar.wishlist.manager.domain.model.WishlistItem;
+import org.bson.Document;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static com.cesar.wishlist.manager.infra.WishlistQueries.ADDED_AT;
+import static com.cesar.wishlist.manager.infra.WishlistQueries.PRIORITY;
+import static com.cesar.wishlist.manager.infra.WishlistQueries.PRODUCT_ID;
+import static com.cesar.wishlist.manager.infra.WishlistQueries.toDate;
+import static com.cesar.wishlist.manager.infra.WishlistQueries.toLocalDateTime;
+
+/**
+ * Maps {@link ProductSet} to and from the array of {@code {p, at, pr}} items stored in Mongo, building each set
+ * with a single exactly sized allocation instead of growing it element by element. Plain strings left by the
+ * previous schema are read as items without {@code addedAt}.
+ */
+public final class ProductSetConverters {
+
+    private ProductSetConverters() {
+    }
+
+    public static List<Object> converters() {
+        return List.of(ProductSetReadingConverter.INSTANCE, ProductSetWritingConverter.INSTANCE);
+    }
+
+    @ReadingConverter
+    enum ProductSetReadingConverter implements Converter<List<?>, ProductSet> {
+        INSTANCE;
+
+        @Override
+        public ProductSet convert(List<?> source) {
+            var items = new ArrayList<WishlistItem>(source.size());
+            for (var element : source) {
+                if (element instanceof Document item) {
+                    items.add(new WishlistItem(item.getString(PRODUCT_ID),
+                            toLocalDateTime(item.get(ADDED_AT, Date.class)), item.getInteger(PRIORITY)));
+                } else {
+                    items.add(new WishlistItem((String) element, null, null));
+                }
+            }
+            return ProductSet.copyOfItems(items);
+        }
+    }
+
+    @WritingConverter
+    enum ProductSetWritingConverter implements Converter<ProductSet, List<Document>> {
+        INSTANCE;
+
+        @Override
+        public List<Document> convert(ProductSet source) {
+            var items = new ArrayList<Document>(source.size());
+            for (int i = 0; i < source.size(); i++) {
+                var item = source.item(i);
+                var document = new Document(PRODUCT_ID, item.productId());
+                if (item.addedAt() != null) {
+                    document.append(ADDED_AT, toDate(item.addedAt()));
+                }
+                if (item.priority() != null) {
+                    document.append(PRIORITY, item.priority());
+                }
+                items.add(document);
+            }
+            return items;
+        }
+    }
+}
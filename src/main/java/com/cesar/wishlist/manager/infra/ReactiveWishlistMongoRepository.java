@@ -0,0 +1,7 @@
+package com.cesar.wishlist.manager.infra;
+
+import com.cesar.wishlist.manager.domain.entity.Wishlist;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+
+public interface ReactiveWishlistMongoRepository extends ReactiveMongoRepository<Wishlist, String>, ReactiveWishlistMongoRepositoryCustom {
+}
@@ -0,0 +1,34 @@
+package com.cesar.wishlist.manager.infra;
+
+import com.cesar.wishlist.manager.domain.entity.Wishlist;
+import com.cesar.wishlist.manager.domain.model.WishlistItem;
+import com.cesar.wishlist.manager.domain.model.WishlistProductPage;
+import com.cesar.wishlist.manager.domain.model.WishlistVersion;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Non-blocking counterpart of {@link WishlistMongoRepositoryCustom}; an empty Mono stands for an empty Optional.
+ */
+public interface ReactiveWishlistMongoRepositoryCustom {
+
+    Mono<Wishlist> addProducts(String customerId, Collection<String> products, int maxProducts);
+
+    Mono<Wishlist> removeProduct(String customerId, String productId);
+
+    Mono<Boolean> containsProduct(String customerId, String productId);
+
+    Mono<WishlistVersion> findVersion(String customerId);
+
+    Mono<WishlistProductPage> findProductPage(String customerId, int offset, int limit);
+
+    Mono<List<WishlistItem>> findRecentProducts(String customerId, int limit);
+
+    Flux<String> findCustomerIdsByProduct(String productId, String afterCustomerId, int limit);
+
+    Flux<Wishlist> streamAll(LocalDateTime since);
+}
@@ -0,0 +1,101 @@
+package com.cesar.wishlist.manager.infra;
+
+import com.cesar.wishlist.manager.domain.entity.Wishlist;
+import com.cesar.wishlist.manager.domain.model.WishlistItem;
+import com.cesar.wishlist.manager.domain.model.WishlistProductPage;
+import com.cesar.wishlist.manager.domain.model.WishlistVersion;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static com.cesar.wishlist.manager.infra.WishlistQueries.addProductsQuery;
+import static com.cesar.wishlist.manager.infra.WishlistQueries.addProductsUpdate;
+import static com.cesar.wishlist.manager.infra.WishlistQueries.changedSinceQuery;
+import static com.cesar.wishlist.manager.infra.WishlistQueries.containsProductQuery;
+import static com.cesar.wishlist.manager.infra.WishlistQueries.customerIdsByProductQuery;
+import static com.cesar.wishlist.manager.infra.WishlistQueries.productPageQuery;
+import static com.cesar.wishlist.manager.infra.WishlistQueries.recentProductsQuery;
+import static com.cesar.wishlist.manager.infra.WishlistQueries.removeProductsQuery;
+import static com.cesar.wishlist.manager.infra.WishlistQueries.removeProductsUpdate;
+import static com.cesar.wishlist.manager.infra.WishlistQueries.versionQuery;
+
+@RequiredArgsConstructor
+public class ReactiveWishlistMongoRepositoryCustomImpl implements ReactiveWishlistMongoRepositoryCustom {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    @Override
+    public Mono<Wishlist> addProducts(String customerId, Collection<String> products, int maxProducts) {
+
+        var query = addProductsQuery(customerId, products, maxProducts);
+        var update = addProductsUpdate(products);
+
+        return mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true).upsert(true), Wishlist.class)
+                // The wishlist exists but the size guard rejected it, or a concurrent request created it first.
+                .onErrorResume(DuplicateKeyException.class, ex -> mongoTemplate.findAndModify(query, update,
+                        FindAndModifyOptions.options().returnNew(true), Wishlist.class));
+    }
+
+    @Override
+    public Mono<Wishlist> removeProduct(String customerId, String productId) {
+
+        var productIds = List.of(productId);
+
+        return mongoTemplate.findAndModify(removeProductsQuery(customerId, productIds), removeProductsUpdate(productIds),
+                        FindAndModifyOptions.options().returnNew(true), Wishlist.class)
+                .switchIfEmpty(Mono.defer(() -> mongoTemplate.findById(customerId, Wishlist.class)));
+    }
+
+    @Override
+    public Mono<Boolean> containsProduct(String customerId, String productId) {
+
+        return mongoTemplate.findOne(containsProductQuery(customerId, productId), Document.class, collectionName())
+                .map(WishlistQueries::containsProduct);
+    }
+
+    @Override
+    public Mono<WishlistVersion> findVersion(String customerId) {
+
+        return mongoTemplate.findOne(versionQuery(customerId), Document.class, collectionName())
+                .map(WishlistQueries::version);
+    }
+
+    @Override
+    public Mono<WishlistProductPage> findProductPage(String customerId, int offset, int limit) {
+
+        return mongoTemplate.findOne(productPageQuery(customerId, offset, limit), Document.class, collectionName())
+                .map(projection -> WishlistQueries.productPage(projection, offset, limit));
+    }
+
+    @Override
+    public Mono<List<WishlistItem>> findRecentProducts(String customerId, int limit) {
+
+        return mongoTemplate.findOne(recentProductsQuery(customerId, limit), Document.class, collectionName())
+                .map(WishlistQueries::recentProducts);
+    }
+
+    @Override
+    public Flux<String> findCustomerIdsByProduct(String productId, String afterCustomerId, int limit) {
+
+        return mongoTemplate.find(customerIdsByProductQuery(productId, afterCustomerId, limit), Document.class, collectionName())
+                .map(WishlistQueries::customerId);
+    }
+
+    @Override
+    public Flux<Wishlist> streamAll(LocalDateTime since) {
+
+        return mongoTemplate.find(changedSinceQuery(since), Wishlist.class);
+    }
+
+    private String collectionName() {
+        return mongoTemplate.getCollectionName(Wishlist.class);
+    }
+}
@@ -0,0 +1,111 @@
+package com.cesar.wishlist.manager.infra;
+
+import com.cesar.wishlist.manager.application.config.WishlistProperties;
+import com.cesar.wishlist.manager.domain.entity.Wishlist;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+@Component
+public class WishlistCache {
+
+    private static final String CACHE_NAME = "wishlists";
+
+    private final boolean enabled;
+
+    private final Cache<String, Wishlist> cache;
+
+    // Lowest version a change event has announced per customer, kept as long as an entry could be cached.
+    private final Cache<String, Long> versionFloors;
+
+    public WishlistCache(WishlistProperties properties, MeterRegistry meterRegistry) {
+        var cacheProperties = properties.getCache();
+        this.enabled = cacheProperties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.getMaximumSize())
+                .expireAfterWrite(cacheProperties.getTtl())
+                .recordStats()
+                .build();
+        this.versionFloors = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.getMaximumSize())
+                .expireAfterWrite(cacheProperties.getTtl())
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Optional<Wishlist> get(String customerId, Function<String, Optional<Wishlist>> loader) {
+        if (!enabled) {
+            return loader.apply(customerId);
+        }
+
+        var cached = cache.getIfPresent(customerId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        // Loads outside the cache lock; a newer version stored by a concurrent write is kept.
+        return loader.apply(customerId).map(this::putIfNewer);
+    }
+
+    /**
+     * Caches the wishlist unless a higher version is already cached, returning whichever version is kept.
+     * Writes that complete out of order therefore never replace a newer wishlist with an older one, and a load
+     * that read Mongo before a change event is not cached below the version that event announced.
+     */
+    public Wishlist putIfNewer(Wishlist wishlist) {
+        if (!enabled) {
+            return wishlist;
+        }
+        var kept = cache.asMap().compute(wishlist.getCustomerId(), (customerId, cached) -> {
+            if (cached != null && cached.isNewerThan(wishlist)) {
+                return cached;
+            }
+            return versionOf(wishlist) < floorOf(customerId) ? cached : wishlist;
+        });
+        return kept != null ? kept : wishlist;
+    }
+
+    public Optional<Wishlist> getIfPresent(String customerId) {
+        return enabled ? Optional.ofNullable(cache.getIfPresent(customerId)) : Optional.empty();
+    }
+
+    public Wishlist put(Wishlist wishlist) {
+        putIfNewer(wishlist);
+        return wishlist;
+    }
+
+    public void invalidate(String customerId) {
+        cache.invalidate(customerId);
+    }
+
+    /**
+     * Invalidates the customer's wishlist after a change to {@code version}, keeping a cached entry that is already
+     * at that version. Until the floor expires, older versions are no longer cached; an unknown version (a delete,
+     * or an update that did not touch it) blocks caching the customer altogether.
+     */
+    public void invalidate(String customerId, Long version) {
+        var floor = version != null ? version : Long.MAX_VALUE;
+        // Under the entry's lock, so a concurrent putIfNewer either completes first and is evicted, or sees the floor.
+        cache.asMap().compute(customerId, (id, cached) -> {
+            versionFloors.asMap().merge(id, floor, Math::max);
+            return cached != null && versionOf(cached) >= floor ? cached : null;
+        });
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private long floorOf(String customerId) {
+        return Optional.ofNullable(versionFloors.getIfPresent(customerId)).orElse(Long.MIN_VALUE);
+    }
+
+    private static long versionOf(Wishlist wishlist) {
+        return Optional.ofNullable(wishlist.getVersion()).orElse(-1L);
+    }
+}
@@ -0,0 +1,177 @@
+package com.cesar.wishlist.manager.infra;
+
+import com.cesar.wishlist.manager.application.config.WishlistProperties;
+import com.cesar.wishlist.manager.domain.entity.Wishlist;
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.UpdateDescription;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.messaging.ChangeStreamRequest;
+import org.springframework.data.mongodb.core.messaging.DefaultMessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.Message;
+import org.springframework.data.mongodb.core.messaging.MessageListener;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.Subscription;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "wishlist.cache.change-stream", name = "enabled", havingValue = "true")
+public class WishlistChangeStreamListener implements MessageListener<ChangeStreamDocument<Document>, Document>, SmartLifecycle {
+
+    private static final String ID = "_id";
+    private static final String TOKEN = "token";
+    private static final String UPDATED_AT = "updatedAt";
+    private static final String VERSION = "version";
+    private static final int CHANGE_STREAM_HISTORY_LOST = 286;
+
+    private final MongoTemplate mongoTemplate;
+
+    private final WishlistCache cache;
+
+    private final WishlistProperties.ChangeStream properties;
+
+    private final MessageListenerContainer container;
+
+    private volatile Subscription subscription;
+
+    private volatile BsonValue resumeToken;
+
+    private volatile long lastPersistedAt = System.nanoTime();
+
+    private volatile boolean running;
+
+    public WishlistChangeStreamListener(MongoTemplate mongoTemplate, WishlistCache cache, WishlistProperties properties) {
+        this.mongoTemplate = mongoTemplate;
+        this.cache = cache;
+        this.properties = properties.getCache().getChangeStream();
+        this.container = new DefaultMessageListenerContainer(mongoTemplate);
+    }
+
+    @Override
+    public void start() {
+        resumeToken = loadResumeToken();
+        container.start();
+        running = true;
+        subscribe();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        container.stop();
+        persistResumeToken();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void onMessage(Message<ChangeStreamDocument<Document>, Document> message) {
+        var event = message.getRaw();
+        if (event == null) {
+            return;
+        }
+
+        switch (event.getOperationType()) {
+            case INVALIDATE, DROP, DROP_DATABASE, RENAME -> cache.invalidateAll();
+            default -> Optional.ofNullable(event.getDocumentKey())
+                    .map(key -> key.get(ID))
+                    .filter(BsonValue::isString)
+                    .ifPresent(id -> cache.invalidate(id.asString().getValue(), versionOf(event)));
+        }
+
+        resumeToken = event.getResumeToken();
+        if (System.nanoTime() - lastPersistedAt >= properties.getTokenFlushInterval().toNanos()) {
+            persistResumeToken();
+        }
+    }
+
+    /**
+     * The wishlist version the event wrote: inserts and replaces carry the full document and every update increments
+     * it. Null for deletes and for updates that left it untouched.
+     */
+    private static Long versionOf(ChangeStreamDocument<Document> event) {
+        if (event.getFullDocument() != null) {
+            return Optional.ofNullable(event.getFullDocument().get(VERSION, Number.class)).map(Number::longValue).orElse(null);
+        }
+        return Optional.ofNullable(event.getUpdateDescription())
+                .map(UpdateDescription::getUpdatedFields)
+                .map(fields -> fields.get(VERSION))
+                .filter(BsonValue::isNumber)
+                .map(version -> version.asNumber().longValue())
+                .orElse(null);
+    }
+
+    private synchronized void subscribe() {
+        if (!running) {
+            return;
+        }
+        Optional.ofNullable(subscription).ifPresent(container::remove);
+
+        var request = ChangeStreamRequest.builder(this)
+                .collection(mongoTemplate.getCollectionName(Wishlist.class));
+        Optional.ofNullable(resumeToken).ifPresent(request::resumeAfter);
+
+        subscription = container.register(request.build(), Document.class, this::handleError);
+        log.info("Listening to wishlist changes for node {} (resuming: {})", properties.getNodeId(), resumeToken != null);
+    }
+
+    void handleError(Throwable error) {
+        log.warn("Wishlist change stream failed, invalidating local cache and resubscribing", error);
+
+        // Events may have been missed while the stream was down, so nothing cached can be trusted.
+        cache.invalidateAll();
+        if (NestedExceptionUtils.getMostSpecificCause(error) instanceof MongoCommandException ex
+                && ex.getErrorCode() == CHANGE_STREAM_HISTORY_LOST) {
+            resumeToken = null;
+        }
+
+        CompletableFuture.runAsync(this::subscribe,
+                CompletableFuture.delayedExecutor(properties.getRetryDelay().toMillis(), TimeUnit.MILLISECONDS));
+    }
+
+    private BsonValue loadResumeToken() {
+        return Optional.ofNullable(mongoTemplate.findById(properties.getNodeId(), Document.class,
+                        properties.getResumeTokenCollection()))
+                .map(document -> document.get(TOKEN, Document.class))
+                .map(token -> (BsonValue) BsonDocument.parse(token.toJson()))
+                .orElse(null);
+    }
+
+    private void persistResumeToken() {
+        var token = resumeToken;
+        if (token == null) {
+            return;
+        }
+
+        lastPersistedAt = System.nanoTime();
+        try {
+            mongoTemplate.upsert(
+                    new Query(Criteria.where(ID).is(properties.getNodeId())),
+                    new Update()
+                            .set(TOKEN, Document.parse(token.asDocument().toJson()))
+                            .set(UPDATED_AT, LocalDateTime.now()),
+                    properties.getResumeTokenCollection());
+        } catch (RuntimeException ex) {
+            log.warn("Could not persist wishlist change stream resume token", ex);
+        }
+    }
+}
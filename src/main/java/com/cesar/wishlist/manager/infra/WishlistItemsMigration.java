@@ -0,0 +1,33 @@
+package com.cesar.wishlist.manager.infra;
+
+import com.cesar.wishlist.manager.domain.entity.Wishlist;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import static com.cesar.wishlist.manager.infra.WishlistQueries.legacyProductsQuery;
+import static com.cesar.wishlist.manager.infra.WishlistQueries.legacyProductsUpdate;
+
+/**
+ * Converts wishlists whose products are still plain strings into {@code {p, at}} items, so queries on
+ * {@code products.p} see every product. The lookup scans the whole collection, so it only runs when
+ * {@code wishlist.items-migration.enabled} is set; enable it for one deploy and turn it off again.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "wishlist.items-migration", name = "enabled", havingValue = "true")
+public class WishlistItemsMigration implements ApplicationRunner {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        var result = mongoTemplate.updateMulti(legacyProductsQuery(), legacyProductsUpdate(), Wishlist.class);
+        log.info("Migrated {} wishlists to timestamped products", result.getModifiedCount());
+    }
+}
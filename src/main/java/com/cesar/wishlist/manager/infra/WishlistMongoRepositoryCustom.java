@@ -0,0 +1,71 @@
+package com.cesar.wishlist.manager.infra;
+
+import com.cesar.wishlist.manager.domain.entity.Wishlist;
+import com.cesar.wishlist.manager.domain.model.WishlistImportRecord;
+import com.cesar.wishlist.manager.domain.model.WishlistItem;
+import com.cesar.wishlist.manager.domain.model.WishlistProductPage;
+import com.cesar.wishlist.manager.domain.model.WishlistVersion;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface WishlistMongoRepositoryCustom {
+
+    /**
+     * Atomically adds the given products to the customer's wishlist, creating it when absent.
+     * Returns an empty Optional when the resulting wishlist would exceed {@code maxProducts}.
+     */
+    Optional<Wishlist> addProducts(String customerId, Collection<String> products, int maxProducts);
+
+    /**
+     * Adds each record's products to its customer's wishlist with a single unordered bulk of guarded upserts.
+     * Returns the index and reason of every record that could not be applied.
+     */
+    Map<Integer, String> addProductsInBulk(List<WishlistImportRecord> records, int maxProducts);
+
+    /**
+     * Atomically pulls the products from the customer's wishlist, leaving it untouched when none of them is present.
+     * Returns an empty Optional when the wishlist does not exist.
+     */
+    Optional<Wishlist> removeProducts(String customerId, Collection<String> productIds);
+
+    /**
+     * Checks whether the product is in the customer's wishlist without loading its products.
+     * Returns an empty Optional when the wishlist does not exist.
+     */
+    Optional<Boolean> containsProduct(String customerId, String productId);
+
+    /**
+     * Reads only the wishlist's version and modification dates, without loading its products.
+     * Returns an empty Optional when the wishlist does not exist.
+     */
+    Optional<WishlistVersion> findVersion(String customerId);
+
+    /**
+     * Reads up to {@code limit} products starting at {@code offset}, in insertion order, with a {@code $slice}
+     * projection so only the page leaves the server. Returns an empty Optional when the wishlist does not exist.
+     */
+    Optional<WishlistProductPage> findProductPage(String customerId, int offset, int limit);
+
+    /**
+     * Reads the {@code limit} most recently added products, newest first, with a trailing {@code $slice} projection
+     * so only those items leave the server. Returns an empty Optional when the wishlist does not exist.
+     */
+    Optional<List<WishlistItem>> findRecentProducts(String customerId, int limit);
+
+    /**
+     * Returns up to {@code limit} customer IDs, in ascending order and after {@code afterCustomerId} when given,
+     * whose wishlist contains the product. Backed by the {products, _id} index, so no wishlist is loaded.
+     */
+    List<String> findCustomerIdsByProduct(String productId, String afterCustomerId, int limit);
+
+    /**
+     * Streams every wishlist, or only those changed since the given instant, through a server-side cursor.
+     * The returned stream holds the cursor open and must be closed by the caller.
+     */
+    Stream<Wishlist> streamAll(LocalDateTime since);
+}
@@ -0,0 +1,138 @@
+package com.cesar.wishlist.manager.infra;
+
+import com.cesar.wishlist.manager.domain.entity.Wishlist;
+import com.cesar.wishlist.manager.domain.exception.WishlistMaxSizeException;
+import com.cesar.wishlist.manager.domain.model.WishlistImportRecord;
+import com.cesar.wishlist.manager.domain.model.WishlistItem;
+import com.cesar.wishlist.manager.domain.model.WishlistProductPage;
+import com.cesar.wishlist.manager.domain.model.WishlistVersion;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.cesar.wishlist.manager.infra.WishlistQueries.DUPLICATE_KEY;
+import static com.cesar.wishlist.manager.infra.WishlistQueries.addProductsQuery;
+import static com.cesar.wishlist.manager.infra.WishlistQueries.addProductsUpdate;
+import static com.cesar.wishlist.manager.infra.WishlistQueries.changedSinceQuery;
+import static com.cesar.wishlist.manager.infra.WishlistQueries.containsProductQuery;
+import static com.cesar.wishlist.manager.infra.WishlistQueries.customerIdsByProductQuery;
+import static com.cesar.wishlist.manager.infra.WishlistQueries.productPageQuery;
+import static com.cesar.wishlist.manager.infra.WishlistQueries.recentProductsQuery;
+import static com.cesar.wishlist.manager.infra.WishlistQueries.removeProductsQuery;
+import static com.cesar.wishlist.manager.infra.WishlistQueries.removeProductsUpdate;
+import static com.cesar.wishlist.manager.infra.WishlistQueries.versionQuery;
+
+@RequiredArgsConstructor
+public class WishlistMongoRepositoryCustomImpl implements WishlistMongoRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Optional<Wishlist> addProducts(String customerId, Collection<String> products, int maxProducts) {
+
+        var query = addProductsQuery(customerId, products, maxProducts);
+        var update = addProductsUpdate(products);
+
+        try {
+            return Optional.ofNullable(mongoTemplate.findAndModify(query, update,
+                    FindAndModifyOptions.options().returnNew(true).upsert(true), Wishlist.class));
+        } catch (DuplicateKeyException ex) {
+            // The wishlist exists but the size guard rejected it, or a concurrent request created it first.
+            return Optional.ofNullable(mongoTemplate.findAndModify(query, update,
+                    FindAndModifyOptions.options().returnNew(true), Wishlist.class));
+        }
+    }
+
+    @Override
+    public Map<Integer, String> addProductsInBulk(List<WishlistImportRecord> records, int maxProducts) {
+
+        var bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Wishlist.class);
+        records.forEach(rec -> bulk.upsert(
+                addProductsQuery(rec.customerId(), rec.products(), maxProducts),
+                addProductsUpdate(rec.products())));
+
+        try {
+            bulk.execute();
+            return Map.of();
+        } catch (BulkOperationException ex) {
+            var failures = new HashMap<Integer, String>();
+            ex.getErrors().forEach(error -> {
+                var rec = records.get(error.getIndex());
+                if (error.getCode() != DUPLICATE_KEY) {
+                    failures.put(error.getIndex(), error.getMessage());
+                } else if (addProducts(rec.customerId(), rec.products(), maxProducts).isEmpty()) {
+                    failures.put(error.getIndex(), new WishlistMaxSizeException(maxProducts).getMessage());
+                }
+            });
+            return failures;
+        }
+    }
+
+    @Override
+    public Optional<Wishlist> removeProducts(String customerId, Collection<String> productIds) {
+
+        var wishlist = mongoTemplate.findAndModify(removeProductsQuery(customerId, productIds), removeProductsUpdate(productIds),
+                FindAndModifyOptions.options().returnNew(true), Wishlist.class);
+
+        return Optional.ofNullable(wishlist)
+                .or(() -> Optional.ofNullable(mongoTemplate.findById(customerId, Wishlist.class)));
+    }
+
+    @Override
+    public Optional<Boolean> containsProduct(String customerId, String productId) {
+
+        return Optional.ofNullable(mongoTemplate.findOne(containsProductQuery(customerId, productId), Document.class, collectionName()))
+                .map(WishlistQueries::containsProduct);
+    }
+
+    @Override
+    public Optional<WishlistVersion> findVersion(String customerId) {
+
+        return Optional.ofNullable(mongoTemplate.findOne(versionQuery(customerId), Document.class, collectionName()))
+                .map(WishlistQueries::version);
+    }
+
+    @Override
+    public Optional<WishlistProductPage> findProductPage(String customerId, int offset, int limit) {
+
+        return Optional.ofNullable(mongoTemplate.findOne(productPageQuery(customerId, offset, limit), Document.class, collectionName()))
+                .map(projection -> WishlistQueries.productPage(projection, offset, limit));
+    }
+
+    @Override
+    public Optional<List<WishlistItem>> findRecentProducts(String customerId, int limit) {
+
+        return Optional.ofNullable(mongoTemplate.findOne(recentProductsQuery(customerId, limit), Document.class, collectionName()))
+                .map(WishlistQueries::recentProducts);
+    }
+
+    @Override
+    public List<String> findCustomerIdsByProduct(String productId, String afterCustomerId, int limit) {
+
+        return mongoTemplate.find(customerIdsByProductQuery(productId, afterCustomerId, limit), Document.class, collectionName()).stream()
+                .map(WishlistQueries::customerId)
+                .toList();
+    }
+
+    @Override
+    public Stream<Wishlist> streamAll(LocalDateTime since) {
+
+        return mongoTemplate.stream(changedSinceQuery(since), Wishlist.class);
+    }
+
+    private String collectionName() {
+        return mongoTemplate.getCollectionName(Wishlist.class);
+    }
+}
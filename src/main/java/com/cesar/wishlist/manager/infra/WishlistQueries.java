@@ -0,0 +1,202 @@
+package com.cesar.wishlist.manager.infra;
+
+import com.cesar.wishlist.manager.domain.model.WishlistItem;
+import com.cesar.wishlist.manager.domain.model.WishlistProductPage;
+import com.cesar.wishlist.manager.domain.model.WishlistVersion;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.MongoExpression;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Queries and updates shared by the blocking and reactive repository fragments, so both adapters apply the
+ * same atomic operations to the wishlists collection. Products are stored as an array of
+ * {@code {p: productId, at: addedAt, pr: priority}} items in the order they were added.
+ */
+final class WishlistQueries {
+
+    static final String ID = "_id";
+    static final String PRODUCTS = "products";
+    static final String PRODUCT_ID = "p";
+    static final String ADDED_AT = "at";
+    static final String PRIORITY = "pr";
+    static final String PRODUCT_IDS = PRODUCTS + "." + PRODUCT_ID;
+    static final String CREATED_AT = "createdAt";
+    static final String UPDATED_AT = "updatedAt";
+    static final String VERSION = "version";
+    static final int EXPORT_BATCH_SIZE = 1_000;
+    static final int DUPLICATE_KEY = 11000;
+    private static final String NOW = "$$NOW";
+
+    private WishlistQueries() {
+    }
+
+    static Query addProductsQuery(String customerId, Collection<String> products, int maxProducts) {
+        return new Query(Criteria.where(ID).is(customerId)
+                .andOperator(Criteria.expr(sizeAfterUnionAtMost(products, maxProducts))));
+    }
+
+    /**
+     * Appends the products not yet in the wishlist as items added now, in one pipeline update, so an existing
+     * product keeps its original {@code addedAt} and the array stays ordered by it. The product IDs go in as a
+     * {@code $literal}, so one starting with {@code $} is stored as is rather than evaluated as a field path.
+     * Timestamps come from the server's {@code $$NOW}, so {@code addedAt} follows the array order even when the
+     * application nodes' clocks disagree.
+     */
+    static UpdateDefinition addProductsUpdate(Collection<String> products) {
+        var newItems = new Document("$map", new Document("input", new Document("$filter", new Document("input", literal(products))
+                .append("cond", new Document("$not", List.of(new Document("$in", List.of("$$this", ifNull("$" + PRODUCT_IDS, List.of()))))))))
+                .append("in", new Document(PRODUCT_ID, "$$this").append(ADDED_AT, NOW)));
+
+        return AggregationUpdate.from(List.of(context -> new Document("$set", new Document()
+                .append(PRODUCTS, new Document("$concatArrays", List.of(ifNull("$" + PRODUCTS, List.of()), newItems)))
+                .append(UPDATED_AT, NOW)
+                .append(CREATED_AT, ifNull("$" + CREATED_AT, NOW))
+                .append(VERSION, new Document("$add", List.of(ifNull("$" + VERSION, 0), 1))))));
+    }
+
+    static Query legacyProductsQuery() {
+        return new BasicQuery(new Document(PRODUCTS, new Document("$type", "string")));
+    }
+
+    /**
+     * Rewrites products stored as plain strings into items, using the wishlist's creation as their best known
+     * {@code addedAt}.
+     */
+    static UpdateDefinition legacyProductsUpdate() {
+        var item = new Document("$cond", List.of(
+                new Document("$eq", List.of(new Document("$type", "$$this"), "string")),
+                new Document(PRODUCT_ID, "$$this").append(ADDED_AT, "$" + CREATED_AT),
+                "$$this"));
+        return AggregationUpdate.from(List.of(context -> new Document("$set", new Document(PRODUCTS,
+                new Document("$map", new Document("input", "$" + PRODUCTS).append("in", item))))));
+    }
+
+    static Query removeProductsQuery(String customerId, Collection<String> productIds) {
+        return new Query(Criteria.where(ID).is(customerId).and(PRODUCT_IDS).in(productIds));
+    }
+
+    static Update removeProductsUpdate(Collection<String> productIds) {
+        return new Update()
+                .pull(PRODUCTS, new Document(PRODUCT_ID, new Document("$in", List.copyOf(productIds))))
+                .currentDate(UPDATED_AT)
+                .inc(VERSION, 1);
+    }
+
+    static Query containsProductQuery(String customerId, String productId) {
+        return new BasicQuery(
+                new Document(ID, customerId),
+                new Document(ID, 1).append(PRODUCTS, new Document("$elemMatch", new Document(PRODUCT_ID, productId))));
+    }
+
+    static boolean containsProduct(Document projection) {
+        return projection.containsKey(PRODUCTS);
+    }
+
+    static Query versionQuery(String customerId) {
+        var query = new Query(Criteria.where(ID).is(customerId));
+        query.fields().include(VERSION, UPDATED_AT, CREATED_AT);
+        return query;
+    }
+
+    static WishlistVersion version(Document projection) {
+        // $inc creates the version as an int32, and dates are stored the way Spring converts LocalDateTime.
+        var version = projection.get(VERSION, Number.class);
+        var lastModified = Optional.ofNullable(projection.getDate(UPDATED_AT)).orElseGet(() -> projection.getDate(CREATED_AT));
+        return new WishlistVersion(version == null ? null : version.longValue(), toLocalDateTime(lastModified));
+    }
+
+    static Query productPageQuery(String customerId, int offset, int limit) {
+        // One product past the page tells whether another page follows, without counting the array.
+        var query = new Query(Criteria.where(ID).is(customerId));
+        query.fields().slice(PRODUCTS, offset, limit + 1).include(VERSION, UPDATED_AT, CREATED_AT);
+        return query;
+    }
+
+    static WishlistProductPage productPage(Document projection, int offset, int limit) {
+        var products = projection.getList(PRODUCTS, Document.class, List.of()).stream()
+                .map(item -> item.getString(PRODUCT_ID))
+                .toList();
+        if (products.size() > limit) {
+            return new WishlistProductPage(products.subList(0, limit), offset + limit, version(projection));
+        }
+        return new WishlistProductPage(products, null, version(projection));
+    }
+
+    static Query recentProductsQuery(String customerId, int limit) {
+        // A negative $slice keeps the last items, which are the most recently added ones.
+        var query = new Query(Criteria.where(ID).is(customerId));
+        query.fields().slice(PRODUCTS, -limit).include(ID);
+        return query;
+    }
+
+    static List<WishlistItem> recentProducts(Document projection) {
+        var items = new ArrayList<WishlistItem>();
+        projection.getList(PRODUCTS, Document.class, List.of()).forEach(item -> items.add(new WishlistItem(
+                item.getString(PRODUCT_ID), toLocalDateTime(item.get(ADDED_AT, Date.class)), item.getInteger(PRIORITY))));
+        Collections.reverse(items);
+        return items;
+    }
+
+    static Query customerIdsByProductQuery(String productId, String afterCustomerId, int limit) {
+        var criteria = Criteria.where(PRODUCT_IDS).is(productId);
+        Optional.ofNullable(afterCustomerId).ifPresent(after -> criteria.and(ID).gt(after));
+
+        var query = new Query(criteria)
+                .with(Sort.by(ID))
+                .limit(limit);
+        query.fields().include(ID);
+        return query;
+    }
+
+    static String customerId(Document projection) {
+        return projection.getString(ID);
+    }
+
+    static Query changedSinceQuery(LocalDateTime since) {
+        var query = new Query().cursorBatchSize(EXPORT_BATCH_SIZE);
+        Optional.ofNullable(since).ifPresent(instant -> query.addCriteria(new Criteria().orOperator(
+                Criteria.where(UPDATED_AT).gte(instant),
+                Criteria.where(UPDATED_AT).exists(false).and(CREATED_AT).gte(instant))));
+        return query;
+    }
+
+    static Date toDate(LocalDateTime dateTime) {
+        // The zone Spring uses to store LocalDateTime properties, so raw documents and mapped entities agree.
+        return dateTime == null ? null : Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    static LocalDateTime toLocalDateTime(Date date) {
+        return date == null ? null : LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+    }
+
+    private static MongoExpression sizeAfterUnionAtMost(Collection<String> products, int maxProducts) {
+        // $literal keeps a product ID starting with '$' from being read as a field path or variable.
+        return MongoExpression.create(
+                "{ $lte: [ { $size: { $setUnion: [ { $ifNull: [ '$products.p', [] ] }, { $literal: ?0 } ] } }, ?1 ] }",
+                products, maxProducts);
+    }
+
+    private static Document literal(Collection<String> products) {
+        return new Document("$literal", List.copyOf(products));
+    }
+
+    private static Document ifNull(String field, Object replacement) {
+        return new Document("$ifNull", Arrays.asList(field, replacement));
+    }
+}
@@ -0,0 +1,30 @@
+package com.cesar.wishlist.manager.port.in;
+
+import com.cesar.wishlist.manager.domain.entity.Wishlist;
+import com.cesar.wishlist.manager.domain.model.CustomerIdPage;
+import com.cesar.wishlist.manager.domain.model.WishlistBatchResult;
+import com.cesar.wishlist.manager.domain.model.WishlistItem;
+import com.cesar.wishlist.manager.domain.model.WishlistProductPage;
+import com.cesar.wishlist.manager.domain.model.WishlistVersion;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface ReactiveWishlistService {
+
+    Mono<Wishlist> addProducts(String customerId, Collection<String> products);
+    Mono<Wishlist> removeProduct(String customerId, String productId);
+    Mono<Boolean> hasProduct(String customerId, String productId);
+    Mono<Map<String, Boolean>> hasProducts(String customerId, Collection<String> productIds);
+    Mono<Wishlist> getAllProductsByCustomer(String customerId);
+    Mono<WishlistVersion> findVersion(String customerId);
+    Mono<WishlistProductPage> getProductPage(String customerId, int offset, int limit);
+    Mono<List<WishlistItem>> getRecentProducts(String customerId, int limit);
+    Mono<WishlistBatchResult> getAllProductsByCustomers(Collection<String> customerIds);
+    Mono<CustomerIdPage> findCustomersByProduct(String productId, String cursor, int limit);
+    Flux<Wishlist> exportAll(LocalDateTime since);
+}
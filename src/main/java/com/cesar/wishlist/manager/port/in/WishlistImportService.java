@@ -0,0 +1,10 @@
+package com.cesar.wishlist.manager.port.in;
+
+import com.cesar.wishlist.manager.domain.model.WishlistImportReport;
+
+import java.io.InputStream;
+
+public interface WishlistImportService {
+
+    WishlistImportReport importWishlists(InputStream ndjson);
+}
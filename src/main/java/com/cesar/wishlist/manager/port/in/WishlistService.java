@@ -1,13 +1,30 @@
 package com.cesar.wishlist.manager.port.in;
 
 import com.cesar.wishlist.manager.domain.entity.Wishlist;
+import com.cesar.wishlist.manager.domain.model.CustomerIdPage;
+import com.cesar.wishlist.manager.domain.model.WishlistBatchResult;
+import com.cesar.wishlist.manager.domain.model.WishlistItem;
+import com.cesar.wishlist.manager.domain.model.WishlistProductPage;
+import com.cesar.wishlist.manager.domain.model.WishlistVersion;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface WishlistService {
 
     Wishlist addProducts(String customerId, Collection<String> products);
     Wishlist removeProduct(String customerId, String productId);
     boolean hasProduct(String customerId, String productId);
+    Map<String, Boolean> hasProducts(String customerId, Collection<String> productIds);
     Wishlist getAllProductsByCustomer(String customerId);
+    Optional<WishlistVersion> findVersion(String customerId);
+    WishlistProductPage getProductPage(String customerId, int offset, int limit);
+    List<WishlistItem> getRecentProducts(String customerId, int limit);
+    WishlistBatchResult getAllProductsByCustomers(Collection<String> customerIds);
+    CustomerIdPage findCustomersByProduct(String productId, String cursor, int limit);
+    Stream<Wishlist> exportAll(LocalDateTime since);
 }
@@ -1,7 +1,10 @@
 package com.cesar.wishlist.manager.adapter.in.rest.v1.controller;
 
 import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.request.WishlistAddProductsDto;
+import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.request.WishlistBatchRequestDto;
+import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.request.WishlistProductsCheckDto;
 import com.cesar.wishlist.manager.application.config.WishlistProperties;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -10,22 +13,34 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -161,6 +176,59 @@ class WishlistV1ControllerIT {
         }
     }
 
+    @Nested
+    @DisplayName("POST /v1/wishlists/products/exists")
+    class HasProducts {
+
+        private final String existsUrl = baseUrl + "/exists";
+
+        private final String bulkCustomerId = "bulk-check-customer";
+
+        @BeforeEach
+        void setup() throws Exception {
+            var request = new WishlistAddProductsDto(List.of("bulk-1", "bulk-2"));
+
+            mockMvc.perform(post(baseUrl)
+                    .header("customerId", bulkCustomerId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(toJson(request)));
+        }
+
+        @Test
+        void shouldReturnMembershipForEachProduct() throws Exception {
+            var request = new WishlistProductsCheckDto(List.of("bulk-1", "bulk-3", "bulk-2"));
+
+            mockMvc.perform(post(existsUrl)
+                            .header("customerId", bulkCustomerId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(toJson(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.products.bulk-1").value(true))
+                    .andExpect(jsonPath("$.products.bulk-2").value(true))
+                    .andExpect(jsonPath("$.products.bulk-3").value(false));
+        }
+
+        @Test
+        void shouldRejectNullProducts() throws Exception {
+            mockMvc.perform(post(existsUrl)
+                            .header("customerId", bulkCustomerId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"products\":[null]}"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        void shouldReturnNotFoundWhenWishlistDoesNotExist() throws Exception {
+            var request = new WishlistProductsCheckDto(List.of("bulk-1"));
+
+            mockMvc.perform(post(existsUrl)
+                            .header("customerId", "non-existent")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(toJson(request)))
+                    .andExpect(status().isNotFound());
+        }
+    }
+
     @Nested
     @DisplayName("GET /v1/wishlists/products")
     class GetAllProducts {
@@ -182,6 +250,316 @@ class WishlistV1ControllerIT {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.products", hasSize(3)));
         }
+
+        @Test
+        void shouldReturnNotModifiedWhenETagMatches() throws Exception {
+            var eTag = mockMvc.perform(get(baseUrl)
+                            .header("customerId", customerId))
+                    .andExpect(status().isOk())
+                    .andExpect(header().exists(HttpHeaders.ETAG))
+                    .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(get(baseUrl)
+                            .header("customerId", customerId)
+                            .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                    .andExpect(content().string(""));
+        }
+
+        @Test
+        void shouldReturnNewETagAfterWishlistChanges() throws Exception {
+            mockMvc.perform(post(baseUrl)
+                    .header("customerId", "etag-customer")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(toJson(new WishlistAddProductsDto(List.of("p1")))));
+
+            var eTag = mockMvc.perform(get(baseUrl)
+                            .header("customerId", "etag-customer"))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(post(baseUrl)
+                            .header("customerId", "etag-customer")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(toJson(new WishlistAddProductsDto(List.of("p4")))))
+                    .andExpect(status().isOk());
+
+            mockMvc.perform(get(baseUrl)
+                            .header("customerId", "etag-customer")
+                            .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+                    .andExpect(jsonPath("$.products", hasItems("p4")));
+        }
+
+        @Test
+        void shouldNotMatchAnotherCustomersETagAtTheSameVersion() throws Exception {
+            for (var customer : List.of("etag-a", "etag-b")) {
+                mockMvc.perform(post(baseUrl)
+                        .header("customerId", customer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(new WishlistAddProductsDto(List.of(customer + "-product")))));
+            }
+
+            var eTag = mockMvc.perform(get(baseUrl)
+                            .header("customerId", "etag-a"))
+                    .andExpect(header().string(HttpHeaders.VARY, containsString("customerId")))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(get(baseUrl)
+                            .header("customerId", "etag-b")
+                            .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+                    .andExpect(jsonPath("$.products", equalTo(List.of("etag-b-product"))));
+        }
+
+        @Test
+        void shouldReturnProductsPageByPage() throws Exception {
+            mockMvc.perform(post(baseUrl)
+                    .header("customerId", "paged-customer")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(toJson(new WishlistAddProductsDto(List.of("a", "b", "c", "d", "e")))));
+
+            mockMvc.perform(get(baseUrl)
+                            .header("customerId", "paged-customer")
+                            .param("limit", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().exists(HttpHeaders.ETAG))
+                    .andExpect(jsonPath("$.products", equalTo(List.of("a", "b"))))
+                    .andExpect(jsonPath("$.nextOffset").value(2));
+
+            mockMvc.perform(get(baseUrl)
+                            .header("customerId", "paged-customer")
+                            .param("offset", "4")
+                            .param("limit", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.products", equalTo(List.of("e"))))
+                    .andExpect(jsonPath("$.nextOffset").doesNotExist());
+        }
+
+        @Test
+        void shouldReturnNotFoundWhenConditionalWishlistDoesNotExist() throws Exception {
+            mockMvc.perform(get(baseUrl)
+                            .header("customerId", "no-wishlist")
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"1\""))
+                    .andExpect(status().isNotFound());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /v1/wishlists/products/recent")
+    class GetRecentProducts {
+
+        private final String recentUrl = baseUrl + "/recent";
+
+        @Test
+        void shouldReturnTheMostRecentProductsNewestFirst() throws Exception {
+            mockMvc.perform(post(baseUrl)
+                    .header("customerId", "recent-customer")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(toJson(new WishlistAddProductsDto(List.of("a", "b", "c")))));
+
+            mockMvc.perform(get(recentUrl)
+                            .header("customerId", "recent-customer")
+                            .param("limit", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.products[*].productId", equalTo(List.of("c", "b"))))
+                    .andExpect(jsonPath("$.products[0].addedAt").exists());
+        }
+
+        @Test
+        void shouldReturnNotFoundWhenWishlistDoesNotExist() throws Exception {
+            mockMvc.perform(get(recentUrl)
+                            .header("customerId", "no-recent-wishlist"))
+                    .andExpect(status().isNotFound());
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /v1/wishlists/batch")
+    class GetAllProductsByCustomers {
+
+        private final String batchUrl = "/v1/wishlists/batch";
+
+        @BeforeEach
+        void setup() throws Exception {
+            var request = new WishlistAddProductsDto(List.of("batch-product"));
+
+            mockMvc.perform(post(baseUrl)
+                    .header("customerId", "batch-customer")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(toJson(request)));
+        }
+
+        @Test
+        void shouldReturnWishlistsAndMissingCustomers() throws Exception {
+            var request = new WishlistBatchRequestDto(List.of("batch-customer", "batch-missing"));
+
+            mockMvc.perform(post(batchUrl)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(toJson(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.wishlists", hasSize(1)))
+                    .andExpect(jsonPath("$.wishlists[0].customerId").value("batch-customer"))
+                    .andExpect(jsonPath("$.wishlists[0].products", hasItems("batch-product")))
+                    .andExpect(jsonPath("$.missingCustomerIds", hasItems("batch-missing")));
+        }
+
+        @Test
+        void shouldRejectNullCustomerIds() throws Exception {
+            mockMvc.perform(post(batchUrl)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"customerIds\":[null]}"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /v1/wishlists/products/{productId}/customers")
+    class FindCustomersByProduct {
+
+        private final String customersUrl = baseUrl + "/reverse-product/customers";
+
+        @BeforeEach
+        void setup() throws Exception {
+            var request = new WishlistAddProductsDto(List.of("reverse-product"));
+
+            for (String customer : List.of("reverse-a", "reverse-b", "reverse-c")) {
+                mockMvc.perform(post(baseUrl)
+                        .header("customerId", customer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(request)));
+            }
+        }
+
+        @Test
+        void shouldPageThroughCustomersWithCursor() throws Exception {
+            mockMvc.perform(get(customersUrl).param("limit", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.customerIds", hasSize(2)))
+                    .andExpect(jsonPath("$.customerIds[0]").value("reverse-a"))
+                    .andExpect(jsonPath("$.customerIds[1]").value("reverse-b"))
+                    .andExpect(jsonPath("$.nextCursor").value("reverse-b"));
+
+            mockMvc.perform(get(customersUrl).param("limit", "2").param("cursor", "reverse-b"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.customerIds", hasSize(1)))
+                    .andExpect(jsonPath("$.customerIds[0]").value("reverse-c"))
+                    .andExpect(jsonPath("$.nextCursor").doesNotExist());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /v1/wishlists/export")
+    class ExportAll {
+
+        private final String exportUrl = "/v1/wishlists/export";
+
+        @BeforeEach
+        void setup() throws Exception {
+            var request = new WishlistAddProductsDto(List.of("export-product"));
+
+            mockMvc.perform(post(baseUrl)
+                    .header("customerId", "export-customer")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(toJson(request)));
+        }
+
+        @Test
+        void shouldStreamWishlistsAsNdjson() throws Exception {
+            var result = mockMvc.perform(get(exportUrl))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            var body = mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType("application/x-ndjson"))
+                    .andReturn().getResponse().getContentAsString();
+
+            var exported = body.lines()
+                    .map(this::readTree)
+                    .filter(line -> line.get("customerId").asText().equals("export-customer"))
+                    .toList();
+            assertEquals(1, exported.size());
+            assertEquals("export-product", exported.get(0).get("products").get(0).asText());
+        }
+
+        @Test
+        void shouldUseTheExportTimeoutForTheStream() throws Exception {
+            var result = mockMvc.perform(get(exportUrl))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            assertEquals(properties.getExport().getTimeout().toMillis(), result.getRequest().getAsyncContext().getTimeout());
+            mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+        }
+
+        @Test
+        void shouldCompressExportWhenRequested() throws Exception {
+            var result = mockMvc.perform(get(exportUrl).param("gzip", "true"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            var compressed = mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType("application/gzip"))
+                    .andReturn().getResponse().getContentAsByteArray();
+
+            try (var input = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+                var body = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+                assertTrue(body.contains("\"customerId\":\"export-customer\""));
+            }
+        }
+
+        @Test
+        void shouldOnlyExportWishlistsChangedSinceGivenDate() throws Exception {
+            var result = mockMvc.perform(get(exportUrl).param("since", "2999-01-01T00:00:00"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string(""));
+        }
+
+        private JsonNode readTree(String line) {
+            try {
+                return objectMapper.readTree(line);
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /v1/wishlists/import")
+    class ImportWishlists {
+
+        private final String importUrl = "/v1/wishlists/import";
+
+        @Test
+        void shouldImportValidLinesAndReportFailures() throws Exception {
+            var body = """
+                    {"customerId": "import-a", "products": ["i1", "i2"]}
+                    {"customerId": "import-b"}
+                    {"customerId": "import-a", "products": ["i3"]}
+                    """;
+
+            mockMvc.perform(post(importUrl)
+                            .contentType("application/x-ndjson")
+                            .content(body))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.received").value(3))
+                    .andExpect(jsonPath("$.imported").value(2))
+                    .andExpect(jsonPath("$.failures[0].line").value(2));
+
+            mockMvc.perform(get(baseUrl)
+                            .header("customerId", "import-a"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.products", hasItems("i1", "i2", "i3")));
+        }
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,288 @@
+package com.cesar.wishlist.manager.adapter.in.rest.v1.controller;
+
+import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.request.WishlistAddProductsDto;
+import com.cesar.wishlist.manager.adapter.in.rest.v1.dto.request.WishlistProductsCheckDto;
+import com.cesar.wishlist.manager.application.config.WishlistProperties;
+import com.cesar.wishlist.manager.port.in.WishlistService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.reactive.server.ReactiveWebServerFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@DirtiesContext
+@ActiveProfiles({"test", "reactive"})
+@AutoConfigureWebTestClient
+class WishlistV1ReactiveControllerIT {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private WishlistProperties properties;
+
+    @Autowired
+    private ApplicationContext context;
+
+    private final String customerId = "reactive-customer";
+
+    private final String baseUrl = "/v1/wishlists/products";
+
+    private void givenProductsAdded(String customerId, List<String> products) {
+        webTestClient.post().uri(baseUrl)
+                .header("customerId", customerId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new WishlistAddProductsDto(products))
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    @DisplayName("When the reactive profile is active")
+    void shouldServeFromNettyWithoutTheBlockingRequestPath() {
+        assertInstanceOf(NettyReactiveWebServerFactory.class, context.getBean(ReactiveWebServerFactory.class));
+        assertNull(context.getBeanProvider(WishlistService.class).getIfAvailable());
+    }
+
+    @Nested
+    @DisplayName("POST /v1/wishlists/products")
+    class AddProducts {
+
+        @Test
+        void shouldAddProductsSuccessfully() {
+            webTestClient.post().uri(baseUrl)
+                    .header("customerId", "reactive-add")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(new WishlistAddProductsDto(List.of("prod-1", "prod-2", "prod-1")))
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.products").value(hasSize(2))
+                    .jsonPath("$.products").value(hasItems("prod-1", "prod-2"));
+        }
+
+        @Test
+        void shouldRejectWhenExceedingMaxProducts() {
+            var tooManyProducts = new ArrayList<String>();
+            for (int i = 0; i <= properties.getMaxProducts(); i++) tooManyProducts.add("p" + i);
+
+            webTestClient.post().uri(baseUrl)
+                    .header("customerId", customerId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(new WishlistAddProductsDto(tooManyProducts))
+                    .exchange()
+                    .expectStatus().isEqualTo(422);
+        }
+
+        @Test
+        void shouldReturnBadRequestWhenHeaderIsMissing() {
+            webTestClient.post().uri(baseUrl)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(new WishlistAddProductsDto(List.of("prod-1")))
+                    .exchange()
+                    .expectStatus().isBadRequest();
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /v1/wishlists/products")
+    class GetAllProducts {
+
+        @Test
+        void shouldReturnNotModifiedWhenETagMatches() {
+            givenProductsAdded("reactive-etag", List.of("p1", "p2"));
+
+            var eTag = webTestClient.get().uri(baseUrl)
+                    .header("customerId", "reactive-etag")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().exists(HttpHeaders.LAST_MODIFIED)
+                    .returnResult(String.class)
+                    .getResponseHeaders().getETag();
+
+            webTestClient.get().uri(baseUrl)
+                    .header("customerId", "reactive-etag")
+                    .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                    .exchange()
+                    .expectStatus().isNotModified()
+                    .expectHeader().valueEquals(HttpHeaders.ETAG, eTag)
+                    .expectBody().isEmpty();
+
+            givenProductsAdded("reactive-etag", List.of("p3"));
+
+            webTestClient.get().uri(baseUrl)
+                    .header("customerId", "reactive-etag")
+                    .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().value(HttpHeaders.ETAG, value -> assertNotEquals(eTag, value))
+                    .expectBody()
+                    .jsonPath("$.products").value(hasSize(3));
+        }
+
+        @Test
+        void shouldNotMatchAnotherCustomersETagAtTheSameVersion() {
+            givenProductsAdded("reactive-etag-a", List.of("a1"));
+            givenProductsAdded("reactive-etag-b", List.of("b1"));
+
+            var eTag = webTestClient.get().uri(baseUrl)
+                    .header("customerId", "reactive-etag-a")
+                    .exchange()
+                    .expectHeader().value(HttpHeaders.VARY, containsString("customerId"))
+                    .returnResult(String.class)
+                    .getResponseHeaders().getETag();
+
+            webTestClient.get().uri(baseUrl)
+                    .header("customerId", "reactive-etag-b")
+                    .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().value(HttpHeaders.ETAG, value -> assertNotEquals(eTag, value))
+                    .expectBody()
+                    .jsonPath("$.products").value(hasItems("b1"));
+        }
+
+        @Test
+        void shouldReturnProductsPageByPage() {
+            givenProductsAdded("reactive-paged", List.of("a", "b", "c"));
+
+            webTestClient.get().uri(uri -> uri.path(baseUrl).queryParam("limit", 2).build())
+                    .header("customerId", "reactive-paged")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.products").isEqualTo(List.of("a", "b"))
+                    .jsonPath("$.nextOffset").isEqualTo(2);
+
+            webTestClient.get().uri(uri -> uri.path(baseUrl).queryParam("offset", 2).queryParam("limit", 2).build())
+                    .header("customerId", "reactive-paged")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.products").isEqualTo(List.of("c"))
+                    .jsonPath("$.nextOffset").doesNotExist();
+        }
+    }
+
+    @Nested
+    @DisplayName("DELETE /v1/wishlists/products/{productId}")
+    class RemoveProduct {
+
+        @BeforeEach
+        void setup() {
+            givenProductsAdded("reactive-remove", List.of("remove-me", "keep-me"));
+        }
+
+        @Test
+        void shouldRemoveProductSuccessfully() {
+            webTestClient.delete().uri(baseUrl + "/remove-me")
+                    .header("customerId", "reactive-remove")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.products").value(hasSize(1))
+                    .jsonPath("$.products[0]").isEqualTo("keep-me");
+        }
+
+        @Test
+        void shouldReturnNotFoundWhenWishlistDoesNotExist() {
+            webTestClient.delete().uri(baseUrl + "/remove-me")
+                    .header("customerId", "non-existent")
+                    .exchange()
+                    .expectStatus().isNotFound();
+        }
+    }
+
+    @Nested
+    @DisplayName("Product checks")
+    class HasProducts {
+
+        @BeforeEach
+        void setup() {
+            givenProductsAdded("reactive-check", List.of("check-1", "check-2"));
+        }
+
+        @Test
+        void shouldCheckSingleProduct() {
+            webTestClient.get().uri(baseUrl + "/check-1/exists")
+                    .header("customerId", "reactive-check")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.exists").isEqualTo(true);
+        }
+
+        @Test
+        void shouldCheckSeveralProducts() {
+            webTestClient.post().uri(baseUrl + "/exists")
+                    .header("customerId", "reactive-check")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(new WishlistProductsCheckDto(List.of("check-2", "check-3")))
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.products.check-2").isEqualTo(true)
+                    .jsonPath("$.products.check-3").isEqualTo(false);
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /v1/wishlists/export")
+    class ExportAll {
+
+        @Test
+        void shouldStreamWishlistsAsNdjson() {
+            givenProductsAdded("reactive-export", List.of("export-1"));
+
+            webTestClient.get().uri("/v1/wishlists/export")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().contentType(WishlistV1Api.NDJSON_VALUE)
+                    .expectBody(String.class)
+                    .value(containsString("\"customerId\":\"reactive-export\""));
+        }
+
+        @Test
+        void shouldStreamGzippedNdjson() throws Exception {
+            givenProductsAdded("reactive-export-gzip", List.of("export-2"));
+
+            var body = webTestClient.get().uri("/v1/wishlists/export?gzip=true")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().contentType(WishlistV1Api.GZIP_VALUE)
+                    .expectBody(byte[].class)
+                    .returnResult()
+                    .getResponseBody();
+
+            try (var gzip = new GZIPInputStream(new ByteArrayInputStream(body))) {
+                var ndjson = new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+                assertTrue(ndjson.contains("\"customerId\":\"reactive-export-gzip\""));
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.cesar.wishlist.manager.application.service;
+
+import com.cesar.wishlist.manager.application.config.WishlistProperties;
+import com.cesar.wishlist.manager.domain.entity.Wishlist;
+import com.cesar.wishlist.manager.domain.exception.WishlistMaxSizeException;
+import com.cesar.wishlist.manager.domain.exception.WishlistNotFoundException;
+import com.cesar.wishlist.manager.infra.ReactiveWishlistMongoRepository;
+import com.cesar.wishlist.manager.infra.WishlistCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveWishlistServiceImplTest {
+
+    @Mock
+    private ReactiveWishlistMongoRepository repository;
+
+    private ReactiveWishlistServiceImpl service;
+
+    private final String customerId = "customer-123";
+
+    @BeforeEach
+    void setup() {
+        var properties = new WishlistProperties();
+        properties.setMaxProducts(3);
+        service = new ReactiveWishlistServiceImpl(repository,
+                new WishlistCache(properties, new SimpleMeterRegistry()), properties,
+                new WishlistMetrics(new SimpleMeterRegistry()), new WishlistOperationLog(properties));
+    }
+
+    @Nested
+    @DisplayName("Given a wishlist exists")
+    class GivenWishlistExists {
+
+        private final Wishlist wishlist = new Wishlist(customerId, List.of("prod-1", "prod-2"));
+
+        @Test
+        @DisplayName("When adding products")
+        void shouldAddProductsAtomically() {
+            when(repository.addProducts(eq(customerId), any(), anyInt())).thenReturn(Mono.just(wishlist));
+
+            StepVerifier.create(service.addProducts(customerId, List.of("prod-2", "prod-2")))
+                    .expectNext(wishlist)
+                    .verifyComplete();
+
+            verify(repository).addProducts(customerId, Set.of("prod-2"), 3);
+        }
+
+        @Test
+        @DisplayName("When the size guard rejects the products")
+        void shouldFailWithMaxSize() {
+            when(repository.addProducts(eq(customerId), any(), anyInt())).thenReturn(Mono.empty());
+
+            StepVerifier.create(service.addProducts(customerId, List.of("prod-3")))
+                    .verifyError(WishlistMaxSizeException.class);
+        }
+
+        @Test
+        @DisplayName("When checking several products")
+        void shouldReadOnceAndServeFromCache() {
+            when(repository.findById(customerId)).thenReturn(Mono.just(wishlist));
+
+            StepVerifier.create(service.hasProducts(customerId, List.of("prod-2", "prod-9")))
+                    .expectNext(Map.of("prod-2", true, "prod-9", false))
+                    .verifyComplete();
+            StepVerifier.create(service.hasProduct(customerId, "prod-1"))
+                    .expectNext(true)
+                    .verifyComplete();
+
+            verify(repository, times(1)).findById(customerId);
+            verify(repository, never()).containsProduct(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Given no wishlist exists")
+    class GivenNoWishlistExists {
+
+        @Test
+        @DisplayName("When adding more products than allowed")
+        void shouldFailBeforeReachingRepository() {
+            StepVerifier.create(service.addProducts(customerId, List.of("p1", "p2", "p3", "p4")))
+                    .verifyError(WishlistMaxSizeException.class);
+
+            verify(repository, never()).addProducts(any(), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("When removing a product")
+        void shouldFailWithNotFoundOnRemove() {
+            when(repository.removeProduct(customerId, "prod-1")).thenReturn(Mono.empty());
+
+            StepVerifier.create(service.removeProduct(customerId, "prod-1"))
+                    .verifyError(WishlistNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("When checking a product")
+        void shouldFailWithNotFoundOnCheck() {
+            when(repository.containsProduct(customerId, "prod-1")).thenReturn(Mono.empty());
+
+            StepVerifier.create(service.hasProduct(customerId, "prod-1"))
+                    .verifyError(WishlistNotFoundException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Given several customers")
+    class GivenSeveralCustomers {
+
+        @Test
+        @DisplayName("When reading their wishlists in batch")
+        void shouldKeepRequestOrderAndReportMissing() {
+            when(repository.findAllById(List.of("c1", "c2", "c3")))
+                    .thenReturn(Flux.just(new Wishlist("c3", List.of("p3")), new Wishlist("c1", List.of("p1"))));
+
+            StepVerifier.create(service.getAllProductsByCustomers(List.of("c1", "c2", "c3", "c1")))
+                    .assertNext(result -> {
+                        assertEquals(List.of("c1", "c3"), result.wishlists().stream().map(Wishlist::getCustomerId).toList());
+                        assertEquals(List.of("c2"), result.missingCustomerIds());
+                    })
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("When listing customers by product")
+        void shouldReturnNextCursorWhenMorePagesExist() {
+            when(repository.findCustomerIdsByProduct("prod-1", null, 3)).thenReturn(Flux.just("c1", "c2", "c3"));
+
+            StepVerifier.create(service.findCustomersByProduct("prod-1", null, 2))
+                    .assertNext(page -> {
+                        assertEquals(List.of("c1", "c2"), page.customerIds());
+                        assertEquals("c2", page.nextCursor());
+                    })
+                    .verifyComplete();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.cesar.wishlist.manager.application.service;
+
+import com.cesar.wishlist.manager.application.config.WishlistProperties;
+import com.cesar.wishlist.manager.domain.model.WishlistImportRecord;
+import com.cesar.wishlist.manager.domain.model.WishlistImportReport;
+import com.cesar.wishlist.manager.infra.WishlistCache;
+import com.cesar.wishlist.manager.infra.WishlistMongoRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WishlistImportServiceImplTest {
+
+    @Mock
+    private WishlistMongoRepository repository;
+
+    private WishlistImportServiceImpl service;
+
+    private WishlistImportReport report;
+
+    @BeforeEach
+    void setup() {
+        var properties = new WishlistProperties();
+        properties.setMaxProducts(3);
+        properties.getBulkImport().setBatchSize(2);
+        properties.getBulkImport().setParallelism(2);
+        service = new WishlistImportServiceImpl(repository,
+                new WishlistCache(properties, new SimpleMeterRegistry()), properties, new ObjectMapper(),
+                new SimpleAsyncTaskExecutor());
+    }
+
+    @Test
+    @DisplayName("When every line is valid")
+    void shouldImportValidLinesInBatches() {
+        givenBulkWritesSucceed();
+
+        whenImporting("""
+                {"customerId": "c1", "products": ["p1", "p2"]}
+                {"customerId": "c2", "products": ["p1", "p1"]}
+
+                {"customerId": "c3", "products": ["p3"]}
+                """);
+
+        assertEquals(3, report.received());
+        assertEquals(3, report.imported());
+        assertEquals(0, report.failed());
+        thenExpectBulkWritesCalledTimes(2);
+    }
+
+    @Test
+    @DisplayName("When some lines are invalid")
+    void shouldReportInvalidLinesWithoutWritingThem() {
+        givenBulkWritesSucceed();
+
+        whenImporting("""
+                {"customerId": "c1", "products": ["p1"]}
+                not json
+                {"customerId": "", "products": ["p1"]}
+                {"customerId": "c4", "products": ["p1", "p2", "p3", "p4"]}
+                """);
+
+        assertEquals(4, report.received());
+        assertEquals(1, report.imported());
+        assertEquals(3, report.failed());
+        assertEquals(List.of(2L, 3L, 4L), report.failures().stream().map(WishlistImportReport.Failure::line).toList());
+        thenExpectBulkWritesCalledTimes(1);
+    }
+
+    @Test
+    @DisplayName("When Mongo rejects a record of a batch")
+    void shouldReportRecordsRejectedByBulkWrite() {
+        when(repository.addProductsInBulk(anyList(), anyInt()))
+                .thenReturn(Map.of(1, "Cannot add more than 3 products to the wishlist."));
+
+        whenImporting("""
+                {"customerId": "c1", "products": ["p1"]}
+                {"customerId": "c2", "products": ["p2"]}
+                """);
+
+        assertEquals(1, report.imported());
+        assertEquals(1, report.failed());
+        assertEquals("c2", report.failures().get(0).customerId());
+    }
+
+    @Test
+    @DisplayName("When duplicated products are sent in a line")
+    @SuppressWarnings("unchecked")
+    void shouldWriteDistinctProducts() {
+        givenBulkWritesSucceed();
+
+        whenImporting("""
+                {"customerId": "c1", "products": ["p1", "p1", "p2"]}
+                """);
+
+        ArgumentCaptor<List<WishlistImportRecord>> captor = ArgumentCaptor.forClass(List.class);
+        verify(repository).addProductsInBulk(captor.capture(), anyInt());
+        assertEquals(List.of("p1", "p2"), captor.getValue().get(0).products());
+    }
+
+    @Test
+    @DisplayName("When the body is empty")
+    void shouldNotWriteAnything() {
+        whenImporting("");
+
+        assertEquals(0, report.received());
+        verify(repository, never()).addProductsInBulk(anyList(), anyInt());
+    }
+
+    // GIVEN METHODS
+    private void givenBulkWritesSucceed() {
+        when(repository.addProductsInBulk(anyList(), anyInt())).thenReturn(Map.of());
+    }
+
+    // WHEN METHODS
+    private void whenImporting(String ndjson) {
+        report = service.importWishlists(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    // THEN METHODS
+    private void thenExpectBulkWritesCalledTimes(int desiredTimes) {
+        verify(repository, times(desiredTimes)).addProductsInBulk(anyList(), anyInt());
+    }
+}
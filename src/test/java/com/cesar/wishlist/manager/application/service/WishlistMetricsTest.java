@@ -0,0 +1,92 @@
+package com.cesar.wishlist.manager.application.service;
+
+import com.cesar.wishlist.manager.domain.entity.Wishlist;
+import com.cesar.wishlist.manager.domain.exception.WishlistMaxSizeException;
+import com.cesar.wishlist.manager.domain.exception.WishlistNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WishlistMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final WishlistMetrics metrics = new WishlistMetrics(meterRegistry);
+
+    @Test
+    @DisplayName("When an operation succeeds")
+    void shouldTimeSuccessfulOperation() {
+        var result = metrics.record("getAllProductsByCustomer", () -> "wishlist");
+
+        assertEquals("wishlist", result);
+        thenExpectTimed("getAllProductsByCustomer", "success", 1);
+    }
+
+    @Test
+    @DisplayName("When a check resolves to present or absent")
+    void shouldTagPresence() {
+        metrics.record("hasProduct", () -> true, WishlistMetrics::presence);
+        metrics.record("hasProduct", () -> false, WishlistMetrics::presence);
+
+        thenExpectTimed("hasProduct", "found", 1);
+        thenExpectTimed("hasProduct", "absent", 1);
+    }
+
+    @Test
+    @DisplayName("When an operation fails with a domain exception")
+    void shouldTagDomainFailures() {
+        assertThrows(WishlistNotFoundException.class, () -> metrics.record("removeProduct", () -> {
+            throw new WishlistNotFoundException("customer-1");
+        }));
+        assertThrows(WishlistMaxSizeException.class, () -> metrics.record("addProducts", () -> {
+            throw new WishlistMaxSizeException(20);
+        }));
+        assertThrows(IllegalStateException.class, () -> metrics.record("addProducts", () -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        thenExpectTimed("removeProduct", "not_found", 1);
+        thenExpectTimed("addProducts", "max_size", 1);
+        thenExpectTimed("addProducts", "error", 1);
+    }
+
+    @Test
+    @DisplayName("When a reactive operation completes or fails")
+    void shouldTimeReactiveOperations() {
+        StepVerifier.create(metrics.record("getAllProductsByCustomer", Mono.just("wishlist")))
+                .expectNext("wishlist")
+                .verifyComplete();
+        StepVerifier.create(metrics.record("getAllProductsByCustomer",
+                        Mono.error(new WishlistNotFoundException("customer-1"))))
+                .verifyError(WishlistNotFoundException.class);
+
+        thenExpectTimed("getAllProductsByCustomer", "success", 1);
+        thenExpectTimed("getAllProductsByCustomer", "not_found", 1);
+    }
+
+    @Test
+    @DisplayName("When recording wishlist sizes")
+    void shouldRecordWishlistSize() {
+        metrics.recordSize(new Wishlist("customer-1", List.of("prod-1", "prod-2")));
+        metrics.recordSize(new Wishlist("customer-2", List.of("prod-1", "prod-2", "prod-3", "prod-4")));
+
+        var summary = meterRegistry.get("wishlist.size").summary();
+        assertEquals(2, summary.count());
+        assertEquals(6, summary.totalAmount());
+    }
+
+    private void thenExpectTimed(String operation, String outcome, long expected) {
+        assertEquals(expected, meterRegistry.get("wishlist.operations")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .timer()
+                .count());
+    }
+}
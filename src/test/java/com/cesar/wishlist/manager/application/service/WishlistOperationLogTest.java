@@ -0,0 +1,52 @@
+package com.cesar.wishlist.manager.application.service;
+
+import com.cesar.wishlist.manager.application.config.WishlistProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.Level;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WishlistOperationLogTest {
+
+    private final WishlistProperties properties = new WishlistProperties();
+
+    private WishlistOperationLog operationLog;
+
+    @BeforeEach
+    void setup() {
+        operationLog = new WishlistOperationLog(properties);
+    }
+
+    @Test
+    @DisplayName("When sampling is disabled")
+    void shouldNeverSampleAtZeroRate() {
+        properties.getLogging().setSampleRate(0);
+
+        assertTrue(IntStream.range(0, 1_000).noneMatch(i -> operationLog.sampled("addProducts")));
+    }
+
+    @Test
+    @DisplayName("When an operation overrides the default rate")
+    void shouldUsePerOperationRate() {
+        properties.getLogging().setLevel(Level.ERROR);
+        properties.getLogging().setSampleRate(0);
+        properties.getLogging().getSampleRates().put("removeProduct", 1.0);
+
+        assertTrue(operationLog.sampled("removeProduct"));
+        assertFalse(operationLog.sampled("addProducts"));
+    }
+
+    @Test
+    @DisplayName("When the configured level is disabled for the logger")
+    void shouldNotSampleBelowLoggerLevel() {
+        properties.getLogging().setSampleRate(1.0);
+        properties.getLogging().setLevel(Level.TRACE);
+
+        assertFalse(operationLog.sampled("addProducts"));
+    }
+}
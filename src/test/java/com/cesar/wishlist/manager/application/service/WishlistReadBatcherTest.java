@@ -0,0 +1,118 @@
+package com.cesar.wishlist.manager.application.service;
+
+import com.cesar.wishlist.manager.application.config.WishlistProperties;
+import com.cesar.wishlist.manager.domain.entity.Wishlist;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WishlistReadBatcherTest {
+
+    private static final int CALLERS = 20;
+
+    private final ConcurrentLinkedQueue<List<String>> loads = new ConcurrentLinkedQueue<>();
+
+    @Test
+    @DisplayName("When reads of different customers arrive within the window")
+    void shouldLoadThemWithFewerQueries() throws Exception {
+        var batcher = givenBatcher(Duration.ofMillis(200), 128);
+
+        var results = whenReadingConcurrently(batcher, i -> "customer-" + i);
+
+        assertTrue(loads.size() < CALLERS);
+        assertEquals(CALLERS, loads.stream().mapToLong(Collection::size).sum());
+        for (int i = 0; i < CALLERS; i++) {
+            assertEquals("customer-" + i, results.get(i).get().orElseThrow().getCustomerId());
+        }
+    }
+
+    @Test
+    @DisplayName("When a window reaches the max batch size")
+    void shouldNotLoadMoreThanMaxBatchSize() throws Exception {
+        var batcher = givenBatcher(Duration.ofMillis(200), 5);
+
+        whenReadingConcurrently(batcher, i -> "customer-" + i);
+
+        assertTrue(loads.stream().allMatch(customerIds -> customerIds.size() <= 5));
+    }
+
+    @Test
+    @DisplayName("When several callers read the same customer")
+    void shouldLoadTheCustomerOnce() throws Exception {
+        var batcher = givenBatcher(Duration.ofMillis(200), 128);
+
+        var results = whenReadingConcurrently(batcher, i -> "hot-customer");
+
+        assertTrue(loads.stream().allMatch(customerIds -> customerIds.equals(List.of("hot-customer"))));
+        for (var result : results) {
+            assertTrue(result.get().isPresent());
+        }
+    }
+
+    @Test
+    @DisplayName("When a customer has no wishlist")
+    void shouldReturnEmptyForThatCustomer() {
+        var batcher = givenBatcher(Duration.ofMillis(1), 128);
+
+        var result = batcher.findById("missing", customerIds -> List.of());
+
+        assertFalse(result.isPresent());
+    }
+
+    @Test
+    @DisplayName("When the load fails")
+    void shouldPropagateTheFailure() {
+        var batcher = givenBatcher(Duration.ofMillis(1), 128);
+
+        assertThrows(IllegalStateException.class, () -> batcher.findById("customer", customerIds -> {
+            throw new IllegalStateException("boom");
+        }));
+    }
+
+    private WishlistReadBatcher givenBatcher(Duration window, int maxBatchSize) {
+        var properties = new WishlistProperties();
+        properties.getReadBatching().setEnabled(true);
+        properties.getReadBatching().setWindow(window);
+        properties.getReadBatching().setMaxBatchSize(maxBatchSize);
+        return new WishlistReadBatcher(properties, new SimpleMeterRegistry());
+    }
+
+    private List<Future<Optional<Wishlist>>> whenReadingConcurrently(WishlistReadBatcher batcher,
+                                                                    IntFunction<String> customerId) throws Exception {
+        var start = new CountDownLatch(1);
+        var results = new ArrayList<Future<Optional<Wishlist>>>();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CALLERS; i++) {
+                var id = customerId.apply(i);
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return batcher.findById(id, this::recordLoad);
+                }));
+            }
+            start.countDown();
+        }
+        return results;
+    }
+
+    private List<Wishlist> recordLoad(Collection<String> customerIds) {
+        loads.add(List.copyOf(customerIds));
+        return customerIds.stream().map(id -> new Wishlist(id, Set.of("p1"))).toList();
+    }
+}
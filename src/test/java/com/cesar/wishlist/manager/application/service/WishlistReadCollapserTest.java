@@ -0,0 +1,121 @@
+package com.cesar.wishlist.manager.application.service;
+
+import com.cesar.wishlist.manager.application.config.WishlistProperties;
+import com.cesar.wishlist.manager.domain.entity.Wishlist;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WishlistReadCollapserTest {
+
+    private static final int CALLERS = 20;
+
+    private final String customerId = "hot-customer";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @Test
+    @DisplayName("When concurrent reads of one customer overlap")
+    void shouldShareOneLoad() throws Exception {
+        var collapser = givenCollapser(true);
+
+        var results = whenReadingConcurrently(collapser, this::slowLoad);
+
+        for (var result : results) {
+            assertTrue(result.get().isPresent());
+        }
+        assertEquals(1, loads.get());
+        assertEquals(CALLERS - 1, meterRegistry.get("wishlist.read.collapsed").counter().count());
+    }
+
+    @Test
+    @DisplayName("When a read starts after the previous load completed")
+    void shouldLoadAgain() {
+        var collapser = givenCollapser(true);
+        release.countDown();
+
+        collapser.load(customerId, this::slowLoad);
+        collapser.load(customerId, this::slowLoad);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("When collapsing is disabled")
+    void shouldLoadForEveryCall() throws Exception {
+        var collapser = givenCollapser(false);
+
+        whenReadingConcurrently(collapser, this::slowLoad);
+
+        assertEquals(CALLERS, loads.get());
+    }
+
+    @Test
+    @DisplayName("When the shared load fails")
+    void shouldPropagateTheFailureToEveryCaller() throws Exception {
+        var collapser = givenCollapser(true);
+
+        var results = whenReadingConcurrently(collapser, id -> {
+            slowLoad(id);
+            throw new IllegalStateException("boom");
+        });
+
+        for (var result : results) {
+            var ex = assertThrows(ExecutionException.class, result::get);
+            assertInstanceOf(IllegalStateException.class, ex.getCause());
+        }
+    }
+
+    private WishlistReadCollapser givenCollapser(boolean enabled) {
+        var properties = new WishlistProperties();
+        properties.getReadCollapsing().setEnabled(enabled);
+        return new WishlistReadCollapser(properties, meterRegistry);
+    }
+
+    private List<Future<Optional<Wishlist>>> whenReadingConcurrently(WishlistReadCollapser collapser,
+                                                                    Function<String, Optional<Wishlist>> loader) throws Exception {
+        var results = new ArrayList<Future<Optional<Wishlist>>>();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> collapser.load(customerId, loader)));
+            }
+            // Holds the loads until every caller has either started one or joined one, so they all overlap.
+            while (loads.get() + meterRegistry.get("wishlist.read.collapsed").counter().count() < CALLERS) {
+                TimeUnit.MILLISECONDS.sleep(1);
+            }
+            release.countDown();
+        }
+        return results;
+    }
+
+    private Optional<Wishlist> slowLoad(String id) {
+        loads.incrementAndGet();
+        try {
+            release.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        return Optional.of(new Wishlist(id, Set.of("p1")));
+    }
+}
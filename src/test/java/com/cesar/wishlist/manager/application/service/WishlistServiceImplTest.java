@@ -4,7 +4,12 @@ import com.cesar.wishlist.manager.application.config.WishlistProperties;
 import com.cesar.wishlist.manager.domain.entity.Wishlist;
 import com.cesar.wishlist.manager.domain.exception.WishlistMaxSizeException;
 import com.cesar.wishlist.manager.domain.exception.WishlistNotFoundException;
+import com.cesar.wishlist.manager.domain.model.WishlistItem;
+import com.cesar.wishlist.manager.domain.model.WishlistProductPage;
+import com.cesar.wishlist.manager.domain.model.WishlistVersion;
+import com.cesar.wishlist.manager.infra.WishlistCache;
 import com.cesar.wishlist.manager.infra.WishlistMongoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -12,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collection;
@@ -22,9 +28,12 @@ import java.util.Set;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -36,6 +45,18 @@ class WishlistServiceImplTest {
     private WishlistMongoRepository repository;
     @Mock
     private WishlistProperties properties;
+    @Spy
+    private WishlistCache cache = new WishlistCache(new WishlistProperties(), new SimpleMeterRegistry());
+    @Spy
+    private WishlistWriteCoalescer writeCoalescer = new WishlistWriteCoalescer(new WishlistProperties(), new SimpleMeterRegistry());
+    @Spy
+    private WishlistReadBatcher readBatcher = new WishlistReadBatcher(new WishlistProperties(), new SimpleMeterRegistry());
+    @Spy
+    private WishlistReadCollapser readCollapser = new WishlistReadCollapser(new WishlistProperties(), new SimpleMeterRegistry());
+    @Spy
+    private WishlistMetrics metrics = new WishlistMetrics(new SimpleMeterRegistry());
+    @Spy
+    private WishlistOperationLog operationLog = new WishlistOperationLog(new WishlistProperties());
     @InjectMocks
     private WishlistServiceImpl service;
 
@@ -58,51 +79,76 @@ class WishlistServiceImplTest {
         @Test
         @DisplayName("When adding products within the limit")
         void shouldAddProductsToExistingWishlist() {
-            givenWishlistIsFound();
             givenProductsSizeWithinLimit();
-            givenWishlistSaveSuccessfully();
+            givenProductsAddedTo(existingWishlist);
 
             whenAddingNewProductsSuccessfully();
 
             thenExpectWishlistUpdatedWithNewProducts();
-            thenExpectRepositoryFindByIdCalledTimes(1);
-            thenExpectRepositorySaveCalledTimes(1);
+            thenExpectRepositoryAddProductsCalledTimes(1);
+            thenExpectRepositoryFindByIdCalledTimes(0);
+            thenExpectRepositorySaveCalledTimes(0);
         }
 
         @Test
         @DisplayName("When adding products exceeding the limit")
         void shouldThrowWhenExceedingLimit() {
-            givenWishlistIsFound();
             givenProductsSizeExceedLimit();
+            givenProductsRejectedBySizeGuard();
 
             whenAddingNewProductsThrowsWishlistMaxSizeException();
 
-            thenExpectRepositoryFindByIdCalledTimes(1);
+            thenExpectRepositoryAddProductsCalledTimes(1);
             thenExpectRepositorySaveCalledTimes(0);
         }
 
         @Test
         @DisplayName("When removing an existing product")
         void shouldRemoveProduct() {
-            givenWishlistIsFound();
-            givenWishlistSaveSuccessfully();
+            givenProductRemovedFrom(existingWishlist);
 
             whenRemovingAnExistingProductSuccessfully();
 
             thenExpectWishlistUpdatedWithoutProduct();
-            thenExpectRepositoryFindByIdCalledTimes(1);
-            thenExpectRepositorySaveCalledTimes(1);
+            thenExpectRepositoryRemoveProductCalledTimes(1);
+            thenExpectRepositoryFindByIdCalledTimes(0);
+            thenExpectRepositorySaveCalledTimes(0);
         }
 
         @Test
         @DisplayName("When checking for an existing product")
         void shouldReturnTrueIfProductExists() {
-            givenWishlistIsFound();
+            givenProductCheckResult("product1", Optional.of(true));
 
             boolean hasProduct = service.hasProduct(customerId, "product1");
 
             assertTrue(hasProduct);
+            thenExpectRepositoryContainsProductCalledTimes(1);
+            thenExpectRepositoryFindByIdCalledTimes(0);
+        }
+
+        @Test
+        @DisplayName("When checking for a product not in the wishlist")
+        void shouldReturnFalseIfProductDoesNotExist() {
+            givenProductCheckResult("product9", Optional.of(false));
+
+            boolean hasProduct = service.hasProduct(customerId, "product9");
+
+            assertFalse(hasProduct);
+            thenExpectRepositoryContainsProductCalledTimes(1);
+        }
+
+        @Test
+        @DisplayName("When checking several products at once")
+        void shouldCheckSeveralProductsWithASingleLookup() {
+            givenWishlistIsFound();
+
+            var result = service.hasProducts(customerId, List.of("product2", "product9", "product1"));
+
+            assertEquals(List.of("product2", "product9", "product1"), List.copyOf(result.keySet()));
+            assertEquals(List.of(true, false, true), List.copyOf(result.values()));
             thenExpectRepositoryFindByIdCalledTimes(1);
+            thenExpectRepositoryContainsProductCalledTimes(0);
         }
 
         @Test
@@ -116,6 +162,116 @@ class WishlistServiceImplTest {
             thenExpectRepositoryFindByIdCalledTimes(1);
         }
 
+        @Test
+        @DisplayName("When consulting the same wishlist twice")
+        void shouldServeRepeatedReadsFromCache() {
+            givenWishlistIsFound();
+
+            whenConsultingAllProductsByCustomerSuccessfully();
+            var products = whenConsultingAllProductsByCustomerSuccessfully();
+
+            thenExpectAllProductsAreRetrieved(products);
+            thenExpectRepositoryFindByIdCalledTimes(1);
+        }
+
+        @Test
+        @DisplayName("When reading a wishlist right after adding products")
+        void shouldServeReadsFromCacheAfterWrite() {
+            givenProductsSizeWithinLimit();
+            givenProductsAddedTo(existingWishlist);
+
+            whenAddingNewProductsSuccessfully();
+            var wishlist = whenConsultingAllProductsByCustomerSuccessfully();
+            boolean hasProduct = service.hasProduct(customerId, "product3");
+
+            assertTrue(wishlist.contains("product3"));
+            assertTrue(hasProduct);
+            thenExpectRepositoryFindByIdCalledTimes(0);
+            thenExpectRepositoryContainsProductCalledTimes(0);
+        }
+
+        @Test
+        @DisplayName("When checking the version of a wishlist that is not cached")
+        void shouldReadVersionFromProjection() {
+            var persisted = new WishlistVersion(3L, existingWishlist.getUpdatedAt());
+            when(repository.findVersion(customerId)).thenReturn(Optional.of(persisted));
+
+            var version = service.findVersion(customerId);
+
+            assertEquals(Optional.of(persisted), version);
+            thenExpectRepositoryFindByIdCalledTimes(0);
+        }
+
+        @Test
+        @DisplayName("When checking the version of a cached wishlist")
+        void shouldReadVersionFromCache() {
+            givenWishlistIsFound();
+
+            whenConsultingAllProductsByCustomerSuccessfully();
+            var version = service.findVersion(customerId);
+
+            assertEquals(Optional.of(WishlistVersion.of(existingWishlist)), version);
+            verify(repository, times(0)).findVersion(customerId);
+        }
+
+        @Test
+        @DisplayName("When reading a page of a wishlist that is not cached")
+        void shouldReadPageFromProjection() {
+            var persisted = new WishlistProductPage(List.of("product2"), null, WishlistVersion.of(existingWishlist));
+            when(properties.getBatch()).thenReturn(new WishlistProperties.Batch());
+            when(repository.findProductPage(customerId, 1, 1)).thenReturn(Optional.of(persisted));
+
+            var page = service.getProductPage(customerId, 1, 1);
+
+            assertEquals(persisted, page);
+            thenExpectRepositoryFindByIdCalledTimes(0);
+        }
+
+        @Test
+        @DisplayName("When reading a page of a cached wishlist")
+        void shouldSlicePageFromCache() {
+            existingWishlist = new Wishlist(customerId, List.of("product1", "product2", "product3"));
+            givenWishlistIsFound();
+            when(properties.getBatch()).thenReturn(new WishlistProperties.Batch());
+
+            whenConsultingAllProductsByCustomerSuccessfully();
+            var first = service.getProductPage(customerId, 0, 2);
+            var last = service.getProductPage(customerId, 2, 2);
+
+            assertEquals(List.of("product1", "product2"), first.products());
+            assertEquals(2, first.nextOffset());
+            assertEquals(List.of("product3"), last.products());
+            assertNull(last.nextOffset());
+            verify(repository, times(0)).findProductPage(any(), anyInt(), anyInt());
+        }
+
+        @Test
+        @DisplayName("When reading the recent products of a wishlist that is not cached")
+        void shouldReadRecentProductsFromProjection() {
+            var persisted = List.of(new WishlistItem("product2", null, null));
+            when(properties.getBatch()).thenReturn(new WishlistProperties.Batch());
+            when(repository.findRecentProducts(customerId, 1)).thenReturn(Optional.of(persisted));
+
+            var recent = service.getRecentProducts(customerId, 1);
+
+            assertEquals(persisted, recent);
+            thenExpectRepositoryFindByIdCalledTimes(0);
+        }
+
+        @Test
+        @DisplayName("When reading the recent products of a cached wishlist")
+        void shouldReadRecentProductsFromCache() {
+            existingWishlist = new Wishlist(customerId, List.of("product1", "product2", "product3"));
+            givenWishlistIsFound();
+            when(properties.getBatch()).thenReturn(new WishlistProperties.Batch());
+
+            whenConsultingAllProductsByCustomerSuccessfully();
+            var recent = service.getRecentProducts(customerId, 2);
+
+            assertEquals(List.of("product3", "product2"), recent.stream().map(WishlistItem::productId).toList());
+            verify(repository, times(0)).findRecentProducts(any(), anyInt());
+        }
+
         // GIVEN METHODS
         private void givenWishlistIsFound() {
             when(repository.findById(customerId))
@@ -167,35 +323,55 @@ class WishlistServiceImplTest {
         @Test
         @DisplayName("When adding products creates a new wishlist")
         void shouldCreateNewWishlist() {
-            givenNoWishlistIsFound();
             givenProductsSizeWithinLimit();
-            givenWishlistSaveSuccessfully();
+            givenProductsAddedTo(new Wishlist(customerId, List.of()));
 
             whenAddingNewProductsSuccessfully();
 
             thenExpectWishlistCreatedWithNewProducts();
-            thenExpectRepositoryFindByIdCalledTimes(1);
-            thenExpectRepositorySaveCalledTimes(1);
+            thenExpectRepositoryAddProductsCalledTimes(1);
+            thenExpectRepositorySaveCalledTimes(0);
+        }
+
+        @Test
+        @DisplayName("When adding more distinct products than the limit allows")
+        void shouldThrowBeforeReachingRepositoryWhenNewProductsExceedLimit() {
+            givenProductsSizeExceedLimit();
+
+            assertThrows(WishlistMaxSizeException.class, () ->
+                    service.addProducts(customerId, List.of("p1", "p2", "p3", "p4", "p4")));
 
+            thenExpectRepositoryAddProductsCalledTimes(0);
         }
 
         @Test
         @DisplayName("When removing a product of non existent wishlist")
         void shouldThrowWhenRemovingFromMissingWishlist() {
-            givenNoWishlistIsFound();
+            givenNoWishlistToRemoveFrom();
 
             whenRemovingFromWishlistThrowsWishlistNotFoundException();
 
-            thenExpectRepositoryFindByIdCalledTimes(1);
+            thenExpectRepositoryRemoveProductCalledTimes(1);
         }
 
         @Test
         @DisplayName("When checking a product of non existent wishlist")
         void shouldThrowWhenCheckingMissingWishlist() {
-            givenNoWishlistIsFound();
+            givenProductCheckResult("product1", Optional.empty());
 
             whenCheckingProductInMissingWishlistThrowsWishlistNotFoundException();
 
+            thenExpectRepositoryContainsProductCalledTimes(1);
+        }
+
+        @Test
+        @DisplayName("When checking several products of non existent wishlist")
+        void shouldThrowWhenCheckingSeveralProductsOfMissingWishlist() {
+            givenNoWishlistIsFound();
+
+            assertThrows(WishlistNotFoundException.class, () ->
+                    service.hasProducts(customerId, List.of("product1", "product2")));
+
             thenExpectRepositoryFindByIdCalledTimes(1);
         }
 
@@ -211,6 +387,9 @@ class WishlistServiceImplTest {
         }
 
         // GIVEN METHODS
+        private void givenNoWishlistToRemoveFrom() {
+            when(repository.removeProducts(eq(customerId), any())).thenReturn(Optional.empty());
+        }
         private void givenNoWishlistIsFound() {
             when(repository.findById(customerId)).thenReturn(Optional.empty());
         }
@@ -239,10 +418,105 @@ class WishlistServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("Given several customers are requested at once")
+    class GivenSeveralCustomers {
+
+        @Test
+        @DisplayName("When some customers have no wishlist")
+        void shouldReturnFoundWishlistsAndMissingCustomers() {
+            givenBatchChunkSize(2);
+            when(repository.findAllById(List.of("c1", "c2")))
+                    .thenReturn(List.of(new Wishlist("c1", List.of("p1"))));
+            when(repository.findAllById(List.of("c3")))
+                    .thenReturn(List.of(new Wishlist("c3", List.of("p3"))));
+
+            var result = service.getAllProductsByCustomers(List.of("c1", "c2", "c3", "c1"));
+
+            assertEquals(List.of("c1", "c3"), result.wishlists().stream().map(Wishlist::getCustomerId).toList());
+            assertEquals(List.of("c2"), result.missingCustomerIds());
+            verify(repository, times(2)).findAllById(any());
+        }
+
+        @Test
+        @DisplayName("When a customer wishlist is already cached")
+        void shouldOnlyQueryCustomersMissingFromCache() {
+            givenBatchChunkSize(500);
+            cache.put(new Wishlist("c1", List.of("p1")));
+            when(repository.findAllById(List.of("c2"))).thenReturn(List.of());
+
+            var result = service.getAllProductsByCustomers(List.of("c1", "c2"));
+
+            assertEquals(1, result.wishlists().size());
+            assertEquals(List.of("c2"), result.missingCustomerIds());
+            verify(repository, times(1)).findAllById(List.of("c2"));
+        }
+
+        private void givenBatchChunkSize(int chunkSize) {
+            var batch = new WishlistProperties.Batch();
+            batch.setChunkSize(chunkSize);
+            when(properties.getBatch()).thenReturn(batch);
+        }
+    }
+
+    @Nested
+    @DisplayName("Given customers are listed by product")
+    class GivenCustomersListedByProduct {
+
+        @BeforeEach
+        void setup() {
+            var batch = new WishlistProperties.Batch();
+            batch.setMaxPageSize(2);
+            when(properties.getBatch()).thenReturn(batch);
+        }
+
+        @Test
+        @DisplayName("When more customers exist than fit in a page")
+        void shouldReturnNextCursor() {
+            when(repository.findCustomerIdsByProduct("product1", null, 3))
+                    .thenReturn(List.of("c1", "c2", "c3"));
+
+            var page = service.findCustomersByProduct("product1", null, 10);
+
+            assertEquals(List.of("c1", "c2"), page.customerIds());
+            assertEquals("c2", page.nextCursor());
+        }
+
+        @Test
+        @DisplayName("When the last page is reached")
+        void shouldNotReturnNextCursorOnLastPage() {
+            when(repository.findCustomerIdsByProduct("product1", "c2", 3))
+                    .thenReturn(List.of("c3"));
+
+            var page = service.findCustomersByProduct("product1", "c2", 2);
+
+            assertEquals(List.of("c3"), page.customerIds());
+            assertNull(page.nextCursor());
+        }
+    }
+
     // GIVEN METHODS
-    private void givenWishlistSaveSuccessfully() {
-        when(repository.save(any(Wishlist.class)))
-                .thenAnswer(i -> i.getArgument(0));
+    private void givenProductsAddedTo(Wishlist wishlist) {
+        when(repository.addProducts(eq(customerId), any(), anyInt()))
+                .thenAnswer(i -> {
+                    wishlist.addProducts(i.getArgument(1));
+                    return Optional.of(wishlist);
+                });
+    }
+    private void givenProductsRejectedBySizeGuard() {
+        when(repository.addProducts(eq(customerId), any(), anyInt()))
+                .thenReturn(Optional.empty());
+    }
+    private void givenProductRemovedFrom(Wishlist wishlist) {
+        when(repository.removeProducts(eq(customerId), any()))
+                .thenAnswer(i -> {
+                    Collection<String> productIds = i.getArgument(1);
+                    productIds.forEach(wishlist::removeProduct);
+                    return Optional.of(wishlist);
+                });
+    }
+    private void givenProductCheckResult(String productId, Optional<Boolean> result) {
+        when(repository.containsProduct(customerId, productId)).thenReturn(result);
     }
     private void givenProductsSizeWithinLimit() {
         when(properties.getMaxProducts()).thenReturn(20);
@@ -265,6 +539,18 @@ class WishlistServiceImplTest {
         verify(repository, times(desiredTimes)).save(updatedWishlist);
     }
 
+    private void thenExpectRepositoryAddProductsCalledTimes(int desiredTimes) {
+        verify(repository, times(desiredTimes)).addProducts(eq(customerId), any(), anyInt());
+    }
+
+    private void thenExpectRepositoryRemoveProductCalledTimes(int desiredTimes) {
+        verify(repository, times(desiredTimes)).removeProducts(eq(customerId), any());
+    }
+
+    private void thenExpectRepositoryContainsProductCalledTimes(int desiredTimes) {
+        verify(repository, times(desiredTimes)).containsProduct(eq(customerId), any());
+    }
+
     private void thenExpectRepositoryFindByIdCalledTimes(int desiredTimes) {
         verify(repository, times(desiredTimes)).findById(customerId);
     }
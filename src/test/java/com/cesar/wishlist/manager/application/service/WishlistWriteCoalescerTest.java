@@ -0,0 +1,127 @@
+package com.cesar.wishlist.manager.application.service;
+
+import com.cesar.wishlist.manager.application.config.WishlistProperties;
+import com.cesar.wishlist.manager.domain.entity.Wishlist;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WishlistWriteCoalescerTest {
+
+    private static final int CALLERS = 20;
+
+    private final String customerId = "hot-customer";
+
+    private final ConcurrentLinkedQueue<Set<String>> writes = new ConcurrentLinkedQueue<>();
+
+    @Test
+    @DisplayName("When coalescing is disabled")
+    void shouldWriteEachCallDirectly() {
+        var coalescer = givenCoalescer(false, Duration.ofMillis(50), 64);
+
+        var result = coalescer.addProducts(customerId, Set.of("p1"), this::recordWrite);
+
+        assertTrue(result.isPresent());
+        assertEquals(List.of(Set.of("p1")), List.copyOf(writes));
+    }
+
+    @Test
+    @DisplayName("When concurrent adds arrive within the window")
+    void shouldMergeThemIntoFewerWrites() throws Exception {
+        var coalescer = givenCoalescer(true, Duration.ofMillis(200), 64);
+
+        var results = whenAddingConcurrently(coalescer);
+
+        assertTrue(writes.size() < CALLERS);
+        var written = writes.stream().flatMap(Set::stream).distinct().count();
+        assertEquals(CALLERS, written);
+        for (var result : results) {
+            assertTrue(result.get().isPresent());
+        }
+    }
+
+    @Test
+    @DisplayName("When a window reaches the max batch size")
+    void shouldNotMergeMoreThanMaxBatchSize() throws Exception {
+        var coalescer = givenCoalescer(true, Duration.ofMillis(200), 5);
+
+        whenAddingConcurrently(coalescer);
+
+        assertTrue(writes.stream().allMatch(products -> products.size() <= 5));
+    }
+
+    @Test
+    @DisplayName("When the merged write is rejected")
+    void shouldApplyEachWriteAlone() throws Exception {
+        var coalescer = givenCoalescer(true, Duration.ofMillis(200), 64);
+        // Rejects any write touching more than one product, like the size guard on a nearly full wishlist.
+        WishlistWriteCoalescer.MergedWrite write = (id, products) -> {
+            writes.add(products);
+            return products.size() > 1 ? Optional.empty() : Optional.of(new Wishlist(id, products));
+        };
+
+        var results = whenAddingConcurrently(coalescer, write);
+
+        for (var result : results) {
+            assertTrue(result.get().isPresent());
+        }
+    }
+
+    @Test
+    @DisplayName("When the write fails")
+    void shouldPropagateTheFailure() {
+        var coalescer = givenCoalescer(true, Duration.ofMillis(1), 64);
+
+        assertThrows(IllegalStateException.class, () -> coalescer.removeProduct(customerId, "p1", (id, products) -> {
+            throw new IllegalStateException("boom");
+        }));
+    }
+
+    private WishlistWriteCoalescer givenCoalescer(boolean enabled, Duration window, int maxBatchSize) {
+        var properties = new WishlistProperties();
+        properties.getWriteCoalescing().setEnabled(enabled);
+        properties.getWriteCoalescing().setWindow(window);
+        properties.getWriteCoalescing().setMaxBatchSize(maxBatchSize);
+        return new WishlistWriteCoalescer(properties, new SimpleMeterRegistry());
+    }
+
+    private List<Future<Optional<Wishlist>>> whenAddingConcurrently(WishlistWriteCoalescer coalescer) throws Exception {
+        return whenAddingConcurrently(coalescer, this::recordWrite);
+    }
+
+    private List<Future<Optional<Wishlist>>> whenAddingConcurrently(WishlistWriteCoalescer coalescer,
+                                                                   WishlistWriteCoalescer.MergedWrite write) throws Exception {
+        var start = new CountDownLatch(1);
+        var results = new ArrayList<Future<Optional<Wishlist>>>();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CALLERS; i++) {
+                var product = "p" + i;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return coalescer.addProducts(customerId, Set.of(product), write);
+                }));
+            }
+            start.countDown();
+        }
+        return results;
+    }
+
+    private Optional<Wishlist> recordWrite(String id, Set<String> products) {
+        writes.add(products);
+        return Optional.of(new Wishlist(id, products));
+    }
+}
@@ -0,0 +1,33 @@
+package com.cesar.wishlist.manager.domain.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class WishlistDomainExceptionTest {
+
+    @Test
+    @DisplayName("When a domain exception is thrown")
+    void shouldNotCaptureStackTrace() {
+        var notFound = new WishlistNotFoundException("customer-1");
+        var maxSize = new WishlistMaxSizeException(20);
+
+        assertEquals(0, notFound.getStackTrace().length);
+        assertEquals(0, maxSize.getStackTrace().length);
+        assertEquals("Wishlist not found for customer ID: customer-1", notFound.getMessage());
+    }
+
+    @Test
+    @DisplayName("When a domain exception wraps a cause")
+    void shouldKeepCause() {
+        var cause = new IllegalStateException("boom");
+
+        var notFound = new WishlistNotFoundException("Wishlist lookup failed", cause);
+
+        assertSame(cause, notFound.getCause());
+        notFound.addSuppressed(new IllegalStateException("ignored"));
+        assertEquals(0, notFound.getSuppressed().length);
+    }
+}
@@ -0,0 +1,151 @@
+package com.cesar.wishlist.manager.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProductSetTest {
+
+    @Test
+    @DisplayName("When built from a list with duplicates")
+    void shouldKeepDistinctProductsInEncounterOrder() {
+        var products = ProductSet.copyOf(List.of("p3", "p1", "p3", "p2"));
+
+        assertEquals(List.of("p3", "p1", "p2"), new ArrayList<>(products));
+        assertEquals(Set.of("p1", "p2", "p3"), products);
+    }
+
+    @Test
+    @DisplayName("When adding and removing products")
+    void shouldBehaveAsASet() {
+        var products = new ProductSet();
+
+        assertTrue(products.add("p1"));
+        assertTrue(products.add("p2"));
+        assertFalse(products.add("p1"));
+        assertTrue(products.remove("p1"));
+        assertFalse(products.remove("p1"));
+
+        assertEquals(List.of("p2"), new ArrayList<>(products));
+        assertThrows(NullPointerException.class, () -> products.add(null));
+    }
+
+    @Test
+    @DisplayName("When the set outgrows the linear scan")
+    void shouldFindProductsThroughTheSortedIndex() {
+        var products = ProductSet.copyOf(IntStream.range(0, 40).mapToObj(i -> "p" + (39 - i)).toList());
+
+        assertTrue(products.contains("p0"));
+        assertTrue(products.contains("p39"));
+        assertFalse(products.contains("p40"));
+
+        products.remove("p0");
+        products.add("p40");
+
+        assertFalse(products.contains("p0"));
+        assertTrue(products.contains("p40"));
+        assertEquals("p40", products.get(39));
+    }
+
+    @Test
+    @DisplayName("When removing through the iterator")
+    void shouldSupportIteratorRemoval() {
+        var products = ProductSet.copyOf(List.of("p1", "p2", "p3"));
+
+        products.removeIf(product -> product.equals("p2"));
+
+        assertEquals(List.of("p1", "p3"), new ArrayList<>(products));
+    }
+
+    @Test
+    @DisplayName("When products carry metadata")
+    void shouldKeepEachItemsMetadataAcrossRemovals() {
+        var first = LocalDateTime.of(2024, 1, 1, 10, 0);
+        var second = first.plusDays(1);
+        var products = new ProductSet();
+
+        products.add("p1", first, null);
+        products.add("p2", second, 5);
+        products.add("p3", second, null);
+        assertFalse(products.add("p1", second, 1));
+        products.remove("p1");
+
+        assertEquals(new WishlistItem("p2", second, 5), products.item(0));
+        assertEquals(new WishlistItem("p3", second, null), products.item(1));
+    }
+
+    @Test
+    @DisplayName("When reading the most recently added items")
+    void shouldReturnTheLastItemsNewestFirst() {
+        var first = LocalDateTime.of(2024, 1, 1, 10, 0);
+        var products = new ProductSet();
+        products.add("p1", first, null);
+        products.add("p2", first.plusDays(1), 3);
+        products.add("p3", first.plusDays(2), null);
+
+        assertEquals(List.of(new WishlistItem("p3", first.plusDays(2), null), new WishlistItem("p2", first.plusDays(1), 3)),
+                products.recentItems(2));
+        assertEquals(3, products.recentItems(10).size());
+    }
+
+    @Test
+    @DisplayName("When built from items")
+    void shouldKeepTheItemsInOrder() {
+        var items = IntStream.range(0, 10)
+                .mapToObj(i -> new WishlistItem("p" + i, LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(i), null))
+                .toList();
+
+        var products = ProductSet.copyOfItems(items);
+
+        assertEquals(items, IntStream.range(0, products.size()).mapToObj(products::item).toList());
+    }
+
+    @Test
+    @DisplayName("When a large stored wishlist repeats a product")
+    void shouldKeepTheFirstOccurrenceOfEachProduct() {
+        var items = new ArrayList<WishlistItem>();
+        IntStream.range(0, 1000).forEach(i -> items.add(new WishlistItem("p" + i, null, i)));
+        items.add(new WishlistItem("p7", null, -1));
+
+        var products = ProductSet.copyOfItems(items);
+
+        assertEquals(1000, products.size());
+        assertEquals(7, products.item(7).priority());
+        assertTrue(products.contains("p999"));
+        assertFalse(products.contains("p1000"));
+    }
+
+    @Test
+    @DisplayName("When growing and shrinking across the linear scan limit")
+    void shouldBehaveLikeAnInsertionOrderedSet() {
+        var random = new Random(42);
+        var products = new ProductSet();
+        var expected = new LinkedHashSet<String>();
+
+        for (int i = 0; i < 2000; i++) {
+            var productId = "p" + random.nextInt(40);
+            if (random.nextBoolean()) {
+                assertEquals(expected.add(productId), products.add(productId));
+            } else {
+                assertEquals(expected.remove(productId), products.remove(productId));
+            }
+            assertEquals(expected.contains(productId), products.contains(productId));
+        }
+
+        assertEquals(List.copyOf(expected), new ArrayList<>(products));
+        IntStream.range(0, 40).mapToObj(i -> "p" + i)
+                .forEach(productId -> assertEquals(expected.contains(productId), products.contains(productId)));
+    }
+}
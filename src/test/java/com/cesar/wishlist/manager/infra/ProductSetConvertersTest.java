@@ -0,0 +1,44 @@
+package com.cesar.wishlist.manager.infra;
+
+import com.cesar.wishlist.manager.domain.model.ProductSet;
+import com.cesar.wishlist.manager.domain.model.WishlistItem;
+import com.cesar.wishlist.manager.infra.ProductSetConverters.ProductSetReadingConverter;
+import com.cesar.wishlist.manager.infra.ProductSetConverters.ProductSetWritingConverter;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ProductSetConvertersTest {
+
+    private final LocalDateTime addedAt = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+    @Test
+    @DisplayName("When writing and reading back items")
+    void shouldKeepProductsWithTheirMetadata() {
+        var products = new ProductSet();
+        products.add("p1", addedAt, null);
+        products.add("p2", addedAt.plusMinutes(1), 3);
+
+        var stored = ProductSetWritingConverter.INSTANCE.convert(products);
+        var read = ProductSetReadingConverter.INSTANCE.convert(stored);
+
+        assertEquals(new Document("p", "p1").append("at", WishlistQueries.toDate(addedAt)), stored.get(0));
+        assertEquals(3, stored.get(1).get("pr"));
+        assertEquals(new WishlistItem("p1", addedAt, null), read.item(0));
+        assertEquals(new WishlistItem("p2", addedAt.plusMinutes(1), 3), read.item(1));
+    }
+
+    @Test
+    @DisplayName("When reading products stored as plain strings")
+    void shouldReadThemAsItemsWithoutMetadata() {
+        var read = ProductSetReadingConverter.INSTANCE.convert(List.of("p1", new Document("p", "p2")));
+
+        assertEquals(List.of("p1", "p2"), List.copyOf(read));
+        assertEquals(new WishlistItem("p1", null, null), read.item(0));
+    }
+}
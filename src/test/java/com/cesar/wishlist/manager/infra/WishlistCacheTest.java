@@ -0,0 +1,80 @@
+package com.cesar.wishlist.manager.infra;
+
+import com.cesar.wishlist.manager.application.config.WishlistProperties;
+import com.cesar.wishlist.manager.domain.entity.Wishlist;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WishlistCacheTest {
+
+    private final WishlistCache cache = new WishlistCache(new WishlistProperties(), new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("When an older version completes after a newer one")
+    void shouldKeepTheNewerVersion() {
+        var newer = wishlistAtVersion(4);
+        var older = wishlistAtVersion(3);
+
+        cache.put(newer);
+        cache.put(older);
+
+        assertSame(newer, cache.getIfPresent("customer").orElseThrow());
+    }
+
+    @Test
+    @DisplayName("When a newer version is written")
+    void shouldReplaceTheOlderVersion() {
+        var older = wishlistAtVersion(3);
+        var newer = wishlistAtVersion(4);
+
+        cache.put(older);
+        cache.put(newer);
+
+        assertSame(newer, cache.getIfPresent("customer").orElseThrow());
+    }
+
+    @Test
+    @DisplayName("When a load that read Mongo before a change event completes after it")
+    void shouldNotCacheTheStaleLoad() {
+        cache.invalidate("customer", 5L);
+
+        cache.putIfNewer(wishlistAtVersion(4));
+
+        assertTrue(cache.getIfPresent("customer").isEmpty());
+    }
+
+    @Test
+    @DisplayName("When a change event announces the version already cached")
+    void shouldKeepTheCachedVersion() {
+        var current = wishlistAtVersion(5);
+        cache.put(current);
+
+        cache.invalidate("customer", 5L);
+
+        assertSame(current, cache.getIfPresent("customer").orElseThrow());
+    }
+
+    @Test
+    @DisplayName("When a change event does not carry a version")
+    void shouldStopCachingTheCustomer() {
+        cache.put(wishlistAtVersion(5));
+
+        cache.invalidate("customer", null);
+        cache.putIfNewer(wishlistAtVersion(6));
+
+        assertTrue(cache.getIfPresent("customer").isEmpty());
+    }
+
+    private static Wishlist wishlistAtVersion(long version) {
+        var wishlist = new Wishlist("customer", List.of("product"));
+        ReflectionTestUtils.setField(wishlist, "version", version);
+        return wishlist;
+    }
+}
@@ -0,0 +1,116 @@
+package com.cesar.wishlist.manager.infra;
+
+import com.cesar.wishlist.manager.domain.entity.Wishlist;
+import com.cesar.wishlist.manager.port.in.WishlistService;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Runs the listener against a single-node replica set, since change streams need an oplog.
+ */
+@SpringBootTest(properties = {
+        "de.flapdoodle.mongodb.embedded.storage.repl-set-name=rs0",
+        "wishlist.cache.change-stream.enabled=true",
+        "wishlist.cache.change-stream.node-id=" + WishlistChangeStreamIT.NODE_ID,
+        "wishlist.cache.change-stream.token-flush-interval=0s",
+        "wishlist.cache.change-stream.retry-delay=100ms"})
+@DirtiesContext
+@ActiveProfiles("test")
+class WishlistChangeStreamIT {
+
+    static final String NODE_ID = "change-stream-it";
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private WishlistService service;
+
+    @Autowired
+    private WishlistCache cache;
+
+    @Autowired
+    private WishlistChangeStreamListener listener;
+
+    @Test
+    @DisplayName("When another node changes a cached wishlist")
+    void shouldInvalidateTheCachedWishlist() {
+        var customerId = "stream-customer";
+        givenCachedAfterOwnWrite(customerId);
+
+        whenAnotherNodeAdds(customerId, "p2");
+
+        awaitUntil(() -> cache.getIfPresent(customerId).isEmpty());
+        assertEquals(List.of("p1", "p2"), List.copyOf(service.getAllProductsByCustomer(customerId).getProducts()));
+    }
+
+    @Test
+    @DisplayName("When a wishlist changes while the listener is stopped")
+    void shouldResumeFromThePersistedToken() {
+        var customerId = "resume-customer";
+        givenCachedAfterOwnWrite(customerId);
+        listener.stop();
+
+        whenAnotherNodeAdds(customerId, "p2");
+        assertTrue(cache.getIfPresent(customerId).isPresent());
+        listener.start();
+
+        awaitUntil(() -> cache.getIfPresent(customerId).isEmpty());
+    }
+
+    // GIVEN METHODS
+    private void givenCachedAfterOwnWrite(String customerId) {
+        var token = resumeToken();
+        service.addProducts(customerId, List.of("p1"));
+        // The event for our own write has been seen once the token moves; it keeps the entry, already at its version.
+        awaitUntil(() -> !Objects.equals(token, resumeToken()));
+        assertTrue(cache.getIfPresent(customerId).isPresent());
+    }
+
+    // WHEN METHODS
+    private void whenAnotherNodeAdds(String customerId, String productId) {
+        mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(customerId)),
+                new Update().push("products", new Document("p", productId)).inc("version", 1),
+                mongoTemplate.getCollectionName(Wishlist.class));
+    }
+
+    private Object resumeToken() {
+        var document = mongoTemplate.findById(NODE_ID, Document.class, "wishlist_resume_tokens");
+        return document == null ? null : document.get("token");
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        var deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condition not met within " + TIMEOUT);
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                fail(ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.cesar.wishlist.manager.infra;
+
+import com.cesar.wishlist.manager.application.config.WishlistProperties;
+import com.cesar.wishlist.manager.domain.entity.Wishlist;
+import com.mongodb.MongoCommandException;
+import com.mongodb.ServerAddress;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.messaging.Message;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WishlistChangeStreamListenerTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private WishlistProperties properties;
+    private WishlistCache cache;
+    private WishlistChangeStreamListener listener;
+
+    @BeforeEach
+    void setup() {
+        properties = new WishlistProperties();
+        properties.getCache().getChangeStream().setNodeId("node-1");
+        cache = new WishlistCache(properties, new SimpleMeterRegistry());
+        cache.put(new Wishlist("customer1", List.of("product1")));
+        cache.put(new Wishlist("customer2", List.of("product2")));
+    }
+
+    @Test
+    @DisplayName("When a wishlist document changes on another node")
+    void shouldInvalidateChangedWishlist() {
+        givenListenerWithTokenFlushInterval(Duration.ofHours(1));
+
+        whenReceiving(OperationType.UPDATE, "customer1");
+
+        assertTrue(cache.getIfPresent("customer1").isEmpty());
+        assertTrue(cache.getIfPresent("customer2").isPresent());
+    }
+
+    @Test
+    @DisplayName("When the wishlist collection is dropped")
+    void shouldInvalidateEveryWishlist() {
+        givenListenerWithTokenFlushInterval(Duration.ofHours(1));
+
+        whenReceiving(OperationType.DROP, null);
+
+        assertTrue(cache.getIfPresent("customer1").isEmpty());
+        assertTrue(cache.getIfPresent("customer2").isEmpty());
+    }
+
+    @Test
+    @DisplayName("When the token flush interval has elapsed")
+    void shouldPersistResumeToken() {
+        givenListenerWithTokenFlushInterval(Duration.ZERO);
+
+        whenReceiving(OperationType.DELETE, "customer1");
+
+        verify(mongoTemplate).upsert(any(Query.class), any(Update.class), eq("wishlist_resume_tokens"));
+    }
+
+    @Test
+    @DisplayName("When the token flush interval has not elapsed")
+    void shouldNotPersistResumeTokenOnEveryEvent() {
+        givenListenerWithTokenFlushInterval(Duration.ofHours(1));
+
+        whenReceiving(OperationType.INSERT, "customer1");
+
+        verify(mongoTemplate, never()).upsert(any(Query.class), any(Update.class), any(String.class));
+    }
+
+    @Test
+    @DisplayName("When the change stream history was lost")
+    void shouldForgetTheResumeToken() {
+        givenListenerWithTokenFlushInterval(Duration.ofHours(1));
+        whenReceiving(OperationType.UPDATE, "customer1");
+
+        listener.handleError(new MongoCommandException(new BsonDocument("code", new BsonInt32(286)), new ServerAddress()));
+        listener.stop();
+
+        assertTrue(cache.getIfPresent("customer2").isEmpty());
+        verify(mongoTemplate, never()).upsert(any(Query.class), any(Update.class), any(String.class));
+    }
+
+    @Test
+    @DisplayName("When the change stream fails for another reason")
+    void shouldKeepTheResumeToken() {
+        givenListenerWithTokenFlushInterval(Duration.ofHours(1));
+        whenReceiving(OperationType.UPDATE, "customer1");
+
+        listener.handleError(new MongoCommandException(new BsonDocument("code", new BsonInt32(6)), new ServerAddress()));
+        listener.stop();
+
+        assertTrue(cache.getIfPresent("customer2").isEmpty());
+        verify(mongoTemplate).upsert(any(Query.class), any(Update.class), eq("wishlist_resume_tokens"));
+    }
+
+    // GIVEN METHODS
+    private void givenListenerWithTokenFlushInterval(Duration interval) {
+        properties.getCache().getChangeStream().setTokenFlushInterval(interval);
+        listener = new WishlistChangeStreamListener(mongoTemplate, cache, properties);
+    }
+
+    // WHEN METHODS
+    @SuppressWarnings("unchecked")
+    private void whenReceiving(OperationType operationType, String customerId) {
+        ChangeStreamDocument<Document> event = mock(ChangeStreamDocument.class);
+        when(event.getOperationType()).thenReturn(operationType);
+        when(event.getResumeToken()).thenReturn(new BsonDocument("_data", new BsonString("8263")));
+        if (customerId != null) {
+            when(event.getDocumentKey()).thenReturn(new BsonDocument("_id", new BsonString(customerId)));
+        }
+
+        Message<ChangeStreamDocument<Document>, Document> message = mock(Message.class);
+        when(message.getRaw()).thenReturn(event);
+
+        listener.onMessage(message);
+    }
+}
@@ -0,0 +1,61 @@
+package com.cesar.wishlist.manager.infra;
+
+import com.cesar.wishlist.manager.domain.model.WishlistItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@DirtiesContext
+@ActiveProfiles("test")
+class WishlistMongoRepositoryIT {
+
+    @Autowired
+    private WishlistMongoRepository repository;
+
+    @Test
+    @DisplayName("When product IDs look like field paths")
+    void shouldCountDollarPrefixedProductsAgainstTheMaxSize() {
+        var customerId = "dollar-guard-customer";
+        repository.addProducts(customerId, List.of("p1"), 2);
+
+        // Read as field paths, both would evaluate to the same missing value and count as one product.
+        var result = repository.addProducts(customerId, List.of("$unknown-1", "$unknown-2"), 2);
+
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    @DisplayName("When product IDs look like field paths or variables")
+    void shouldStoreDollarPrefixedProductsAsIs() {
+        var customerId = "dollar-add-customer";
+        var products = List.of("$createdAt", "$$ROOT", "p1");
+
+        repository.addProducts(customerId, products, 20);
+
+        var wishlist = repository.findById(customerId).orElseThrow();
+        assertEquals(products, List.copyOf(wishlist.getProducts()));
+    }
+
+    @Test
+    @DisplayName("When reading the most recently added products")
+    void shouldSliceTheLastProductsNewestFirst() {
+        var customerId = "recent-slice-customer";
+        repository.addProducts(customerId, List.of("p1", "p2"), 20);
+        repository.addProducts(customerId, List.of("p3"), 20);
+
+        var recent = repository.findRecentProducts(customerId, 2).orElseThrow();
+
+        assertEquals(List.of("p3", "p2"), recent.stream().map(WishlistItem::productId).toList());
+        recent.forEach(item -> assertNotNull(item.addedAt()));
+    }
+}